@@ -1,6 +1,8 @@
 package com.zurich.demo.auth.controller;
 
+import com.zurich.demo.auth.service.TokenRevocationService;
 import com.zurich.demo.auth.service.TokenService;
+import com.zurich.demo.exception.PasswordHashingUnavailableException;
 import com.zurich.demo.user.dto.LoginRequestDTO;
 import com.zurich.demo.user.dto.LoginResponseDTO;
 import com.zurich.demo.user.model.User;
@@ -38,6 +40,9 @@ public class AuthenticationController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TokenRevocationService revocationService;
+
     @Operation(
             summary = "Authenticate user and return JWT",
             description = "Authenticates the user using email and password and returns a JWT on success"
@@ -47,7 +52,8 @@ public class AuthenticationController {
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = LoginResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "User not found or malformed request", content = @Content),
             @ApiResponse(responseCode = "403", description = "Invalid credentials", content = @Content),
-            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content)
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent logins, retry shortly", content = @Content)
     })
     @PostMapping("/login")
     public ResponseEntity<?> login(@RequestBody LoginRequestDTO data) {
@@ -73,10 +79,30 @@ public class AuthenticationController {
             logger.warn("Authentication failed for '{}': invalid credentials.", data.email());
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body("Invalid password.");
+        } catch (PasswordHashingUnavailableException e) {
+            logger.warn("Login rejected for '{}': password hashing pool is saturated.", data.email());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(e.getMessage());
         } catch (Exception e) {
             logger.error("Unexpected error during login for '{}'", data.email(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Unexpected error occurred.");
         }
     }
+
+    @Operation(
+            summary = "Log out and revoke the current JWT",
+            description = "Revokes the bearer token used for this request so it can no longer be used"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content)
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        if (authorization.startsWith("Bearer ")) {
+            tokenService.verify(authorization.substring(7)).ifPresent(revocationService::revoke);
+        }
+        return ResponseEntity.noContent().build();
+    }
 }
@@ -1,15 +1,17 @@
 package com.zurich.demo.auth.service;
 
+import com.zurich.demo.user.model.User;
 import com.zurich.demo.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class AuthenticationService implements UserDetailsService {
+public class AuthenticationService implements UserDetailsService, UserDetailsPasswordService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthenticationService.class);
     private final UserRepository userRepository;
@@ -28,4 +30,12 @@ public class AuthenticationService implements UserDetailsService {
                     return new UsernameNotFoundException("User with email '" + email + "' not found.");
                 });
     }
-}
\ No newline at end of file
+
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        user.setPassword(newPassword);
+        logger.info("Rehashing password for user ID: {}", user.getId());
+        return userRepository.save(user);
+    }
+}
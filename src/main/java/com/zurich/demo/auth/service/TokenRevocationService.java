@@ -0,0 +1,98 @@
+package com.zurich.demo.auth.service;
+
+import com.zurich.demo.auth.repository.RevokedTokenRepository;
+import com.zurich.demo.auth.service.TokenService.VerifiedToken;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationService.class);
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(30);
+
+    private final RevokedTokenRepository repository;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final Counter bloomHits;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter;
+    private volatile Instant lastRefresh = Instant.EPOCH;
+
+    public TokenRevocationService(RevokedTokenRepository repository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${api.security.revocation.expected-entries}") long expectedRevocations,
+                                  @Value("${api.security.revocation.false-positive-rate}") double falsePositiveRate) {
+        this.repository = repository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomHits = Counter.builder("security.revocation.bloom.hits").register(meterRegistry);
+        this.falsePositives = Counter.builder("security.revocation.bloom.false_positives").register(meterRegistry);
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    public void revoke(VerifiedToken token) {
+        if (token.jti() == null || token.expiresAt() == null) {
+            logger.warn("Token for '{}' has no ID and cannot be revoked.", token.subject());
+            return;
+        }
+        repository.insertIfAbsent(token.jti(), token.expiresAt());
+        synchronized (this) {
+            filter.put(token.jti());
+        }
+        logger.info("Revoked token '{}' for user '{}'.", token.jti(), token.subject());
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.jti() == null || !filter.mightContain(token.jti())) return false;
+
+        bloomHits.increment();
+        boolean revoked = repository.existsById(token.jti());
+        if (!revoked) falsePositives.increment();
+        return revoked;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${api.security.revocation.purge-interval}")
+    public void purgeAndRebuild() {
+        try {
+            Instant now = Instant.now();
+            int purged = repository.deleteExpired(now);
+            synchronized (this) {
+                List<String> active = repository.findActiveJtis(now);
+                BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, active.size() * 2L), falsePositiveRate);
+                active.forEach(rebuilt::put);
+                filter = rebuilt;
+                lastRefresh = now;
+                logger.debug("Purged {} expired revocations, {} still active.", purged, active.size());
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not refresh token revocation list: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${api.security.revocation.refresh-interval}",
+            fixedDelayString = "${api.security.revocation.refresh-interval}")
+    public void refreshRecent() {
+        try {
+            Instant now = Instant.now();
+            List<String> recent = repository.findActiveJtisRevokedSince(lastRefresh.minus(REFRESH_OVERLAP), now);
+            synchronized (this) {
+                recent.forEach(filter::put);
+                lastRefresh = now;
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not pick up recent token revocations: {}", e.getMessage());
+        }
+    }
+}
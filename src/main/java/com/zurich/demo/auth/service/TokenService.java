@@ -1,32 +1,72 @@
 package com.zurich.demo.auth.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.zurich.demo.user.model.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 @Service
 public class TokenService {
 
     private static final Logger logger = LoggerFactory.getLogger(TokenService.class);
+    private static final String ISSUER = "book-reader-api";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLES_CLAIM = "roles";
 
-    @Value("${api.security.token.secret}")
-    private String secret;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public TokenService(MeterRegistry meterRegistry,
+                        @Value("${api.security.token.secret}") String secret,
+                        @Value("${api.security.token.cache-size}") long cacheSize) {
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = JWT.require(algorithm)
+                .withIssuer(ISSUER)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(Expiry.creating((String digest, VerifiedToken verified) ->
+                        Duration.between(Instant.now(), verified.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "verifiedTokens");
+    }
 
     public String generateToken(User user) {
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
             String token = JWT.create()
-                    .withIssuer("book-reader-api")
+                    .withIssuer(ISSUER)
+                    .withJWTId(UUID.randomUUID().toString())
                     .withSubject(user.getUsername())
+                    .withClaim(USER_ID_CLAIM, user.getId())
+                    .withClaim(ROLES_CLAIM, user.getAuthorities().stream()
+                            .map(GrantedAuthority::getAuthority)
+                            .toList())
                     .withExpiresAt(generateExpirationDate())
                     .sign(algorithm);
             logger.info("JWT token generated successfully for user: {}", user.getUsername());
@@ -37,23 +77,44 @@ public class TokenService {
         }
     }
 
-    public String validateToken(String token) {
+    public Optional<VerifiedToken> verify(String token) {
+        String digest = digest(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) return Optional.of(cached);
+
         try {
-            Algorithm algorithm = Algorithm.HMAC256(secret);
-            String subject = JWT.require(algorithm)
-                    .withIssuer("book-reader-api")
-                    .build()
-                    .verify(token)
-                    .getSubject();
-            logger.info("JWT token validated successfully for subject: {}", subject);
-            return subject;
+            DecodedJWT decoded = verifier.verify(token);
+            VerifiedToken verified = new VerifiedToken(
+                    decoded.getId(),
+                    decoded.getSubject(),
+                    decoded.getClaim(USER_ID_CLAIM).asLong(),
+                    Optional.ofNullable(decoded.getClaim(ROLES_CLAIM).asList(String.class)).orElse(List.of()),
+                    decoded.getExpiresAtAsInstant());
+            if (verified.expiresAt() != null) verifiedTokens.put(digest, verified);
+            return Optional.of(verified);
         } catch (JWTVerificationException exception) {
             logger.warn("JWT validation failed: {}", exception.getMessage());
-            return "";
+            return Optional.empty();
         }
     }
 
     private Instant generateExpirationDate() {
         return Instant.now().plus(1, ChronoUnit.HOURS);
     }
-}
\ No newline at end of file
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record VerifiedToken(String jti, String subject, Long userId, List<String> roles, Instant expiresAt) {
+
+        public boolean hasClaims() {
+            return userId != null && !roles.isEmpty();
+        }
+    }
+}
@@ -1,9 +1,17 @@
 package com.zurich.demo.books.bookentry.controller;
 
 import com.zurich.demo.books.bookentry.service.BookEntryService;
+import com.zurich.demo.books.bookentry.service.BookEntryStatsService;
 import com.zurich.demo.books.bookentry.model.BookStatus;
 import com.zurich.demo.books.bookentry.model.BookEntry;
+import com.zurich.demo.books.googlebooks.bookDTOs.BookEntryStats;
+import com.zurich.demo.books.googlebooks.bookDTOs.BulkDeleteRequest;
+import com.zurich.demo.books.googlebooks.bookDTOs.BulkSaveBookRequest;
+import com.zurich.demo.books.googlebooks.bookDTOs.BulkSaveResult;
+import com.zurich.demo.books.googlebooks.bookDTOs.BulkStatusUpdateRequest;
+import com.zurich.demo.books.googlebooks.bookDTOs.MutationResult;
 import com.zurich.demo.books.googlebooks.bookDTOs.SaveBookRequest;
+import com.zurich.demo.pagination.CursorPage;
 import com.zurich.demo.user.model.User;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -30,26 +38,75 @@ public class BookEntryController {
 
     private static final Logger logger = LoggerFactory.getLogger(BookEntryController.class);
     private final BookEntryService bookEntryService;
+    private final BookEntryStatsService bookEntryStatsService;
 
-    public BookEntryController(BookEntryService bookEntryService) {
+    public BookEntryController(BookEntryService bookEntryService, BookEntryStatsService bookEntryStatsService) {
         this.bookEntryService = bookEntryService;
+        this.bookEntryStatsService = bookEntryStatsService;
     }
 
     @Operation(
-            summary = "Get all book entries for the authenticated user",
-            description = "Retrieves a list of all book entries associated with the authenticated user"
+            summary = "Get book entries for the authenticated user",
+            description = "Retrieves one page of the authenticated user's book entries, optionally filtered by status and/or subject. " +
+                    "Pass the returned nextCursor to fetch the following page."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Successfully retrieved list",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookEntry.class))),
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
             @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
     })
     @GetMapping
-    public List<BookEntry> getAllBookEntriesForUser(
+    public CursorPage<BookEntry> getAllBookEntriesForUser(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "50") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Only return entries with this status") @RequestParam(required = false) BookStatus status,
+            @Parameter(description = "Only return entries tagged with this subject", example = "Fiction") @RequestParam(required = false) String subject,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        logger.info("Fetching book entries for user: {}", user.getUsername());
+        return bookEntryService.getBookEntriesForUser(user.getId(), cursor, size, status, subject);
+    }
+
+    @Operation(
+            summary = "Search the authenticated user's book entries",
+            description = "Full-text search over title, authors and subjects, best matches first. Accepts web-search " +
+                    "syntax (quoted phrases, OR, -exclusions) and can be combined with a status filter. " +
+                    "Pass the returned nextCursor to fetch the following page."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved page",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Blank query, invalid cursor or page size", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    @GetMapping("/search")
+    public CursorPage<BookEntry> searchBookEntries(
+            @Parameter(description = "Search terms", required = true, example = "hitchhiker adams") @RequestParam String q,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "50") @RequestParam(required = false) Integer size,
+            @Parameter(description = "Only return entries with this status") @RequestParam(required = false) BookStatus status,
             @Parameter(hidden = true) @AuthenticationPrincipal User user) {
-        logger.info("Fetching all book entries for user: {}", user.getUsername());
-        return bookEntryService.getBookEntriesForUser(user.getId());
+        logger.info("Searching book entries for user: {}", user.getUsername());
+        return bookEntryService.searchBookEntries(user.getId(), q, cursor, size, status);
+    }
+
+    @Operation(
+            summary = "Get statistics for the authenticated user's library",
+            description = "Returns entries per status, the most common subjects and the average rating of READ " +
+                    "entries, served from counters maintained on every change to the library"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved statistics",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookEntryStats.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    @GetMapping("/stats")
+    public BookEntryStats getStats(@Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        logger.info("Fetching library statistics for user: {}", user.getUsername());
+        return bookEntryStatsService.getStats(user.getId());
     }
 
     @Operation(
@@ -74,33 +131,75 @@ public class BookEntryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedBookEntry);
     }
 
+    @Operation(
+            summary = "Save many book entries for the authenticated user",
+            description = "Saves up to 500 book entries in batched inserts and reports, per item, whether it was " +
+                    "created, was already saved, or failed validation"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-item outcomes, in request order",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkSaveResult.class))),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized request", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    @PostMapping("/bulk")
+    public List<BulkSaveResult> saveBookEntries(
+            @Parameter(description = "Book entries to save")
+            @Valid @RequestBody BulkSaveBookRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        logger.info("User '{}' is bulk saving {} book entries", user.getUsername(), request.getEntries().size());
+        return bookEntryService.saveBookEntries(request.getEntries(), user.getId());
+    }
+
     @Operation(
             summary = "Update the status of an existing book entry",
-            description = "Modifies the status (e.g., READING, READ, etc.) of a book entry by its ID"
+            description = "Modifies the status (e.g., READING, READ, etc.) of one of the authenticated user's book entries by its ID"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Status updated successfully",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookEntry.class))),
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MutationResult.class))),
             @ApiResponse(responseCode = "400", description = "Invalid status", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
             @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
             @ApiResponse(responseCode = "404", description = "Book entry not found", content = @Content)
     })
     @PatchMapping("/{id}/status")
-    public BookEntry updateBookEntryStatus(
+    public MutationResult updateBookEntryStatus(
             @Parameter(description = "ID of the book entry to update") @PathVariable Long id,
             @Parameter(description = "New status", required = true,
                     schema = @Schema(type = "string", allowableValues = {
                             "WISHLIST", "PLAN_TO_READ", "READING", "PAUSED", "DROPPED", "READ", "RECOMMENDED"
                     }))
-            @RequestParam BookStatus status) {
+            @RequestParam BookStatus status,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
         logger.info("Patching status to '{}' for book entry ID: {}", status, id);
-        return bookEntryService.updateOnlyStatus(id, status);
+        return new MutationResult(bookEntryService.updateOnlyStatus(id, user.getId(), status));
+    }
+
+    @Operation(
+            summary = "Update the status of many book entries",
+            description = "Sets the same status on every listed book entry owned by the authenticated user; " +
+                    "IDs that do not exist or belong to someone else are skipped"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Number of entries updated",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MutationResult.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    @PatchMapping("/status")
+    public MutationResult updateBookEntryStatuses(
+            @Valid @RequestBody BulkStatusUpdateRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        logger.info("User '{}' is patching status to '{}' for {} book entries", user.getUsername(), request.getStatus(), request.getIds().size());
+        return new MutationResult(bookEntryService.updateStatuses(request.getIds(), user.getId(), request.getStatus()));
     }
 
     @Operation(
             summary = "Delete a book entry",
-            description = "Removes a specific book entry by its ID"
+            description = "Removes one of the authenticated user's book entries by its ID"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Book entry deleted"),
@@ -110,10 +209,31 @@ public class BookEntryController {
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBookEntry(
-            @Parameter(description = "ID of the book entry to delete") @PathVariable Long id) {
+            @Parameter(description = "ID of the book entry to delete") @PathVariable Long id,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
         logger.info("Attempting to delete book entry ID: {}", id);
-        bookEntryService.deleteBookEntry(id);
+        bookEntryService.deleteBookEntry(id, user.getId());
         logger.info("Book entry ID {} deleted.", id);
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(
+            summary = "Delete many book entries",
+            description = "Removes every listed book entry owned by the authenticated user; " +
+                    "IDs that do not exist or belong to someone else are skipped"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Number of entries deleted",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = MutationResult.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    @PostMapping("/bulk-delete")
+    public MutationResult deleteBookEntries(
+            @Valid @RequestBody BulkDeleteRequest request,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        logger.info("User '{}' is deleting {} book entries", user.getUsername(), request.getIds().size());
+        return new MutationResult(bookEntryService.deleteBookEntries(request.getIds(), user.getId()));
+    }
 }
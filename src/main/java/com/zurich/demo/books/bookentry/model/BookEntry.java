@@ -1,20 +1,31 @@
 package com.zurich.demo.books.bookentry.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.zurich.demo.user.model.User;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.util.List;
 
 @Entity
-@Table(name = "book_entries")
+@Table(name = "book_entries", uniqueConstraints = @UniqueConstraint(
+        name = BookEntry.USER_BOOK_CONSTRAINT, columnNames = {"user_id", "google_book_id"}))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = BookEntry.CACHE_REGION)
 @Data
 @Schema(description = "Represents a user's book entry, tracking books they own or wish to acquire.")
 public class BookEntry {
 
+    public static final String USER_BOOK_CONSTRAINT = "uk_book_entries_user_book";
+    public static final String CACHE_REGION = "bookEntries";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_entries_seq")
+    @SequenceGenerator(name = "book_entries_seq", sequenceName = "book_entries_seq", allocationSize = 50)
     @Schema(description = "Unique identifier for the book entry", example = "1")
     private Long id;
 
@@ -25,12 +36,12 @@ public class BookEntry {
     @Schema(description = "The title of the book", example = "The Hitchhiker's Guide to the Galaxy")
     private String title;
 
-    @Schema(description = "Authors of the book, comma-separated", example = "Douglas Adams")
-    private String authors;
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Schema(description = "Authors of the book", example = "[\"Douglas Adams\"]")
+    private List<String> authors;
 
-    @ElementCollection
-    @CollectionTable(name = "book_subjects", joinColumns = @JoinColumn(name = "book_entry_id"))
-    @Column(name = "subject")
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "subjects")
     @Schema(description = "Subjects or genres of the book", example = "[\"Science Fiction\", \"Adventure\"]")
     private List<String> subject;
 
@@ -46,8 +57,9 @@ public class BookEntry {
     @Schema(description = "Current status of the book (e.g., OWNED, WISHLIST, READING)", example = "OWNED")
     private BookStatus status;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
-    @Schema(description = "The user associated with this book entry")
+    @JsonIgnore
+    @Schema(hidden = true)
     private User user;
 }
@@ -1,22 +1,61 @@
 package com.zurich.demo.books.bookentry.repository;
 
 import com.zurich.demo.books.bookentry.model.BookEntry;
-import com.zurich.demo.user.model.User;
+import com.zurich.demo.books.bookentry.model.BookStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface BookEntryRepository extends JpaRepository<BookEntry, Long> {
 
-    List<BookEntry> findByUser(User user);
+    @Query("""
+            SELECT b.id FROM BookEntry b
+            WHERE b.user.id = :userId AND b.id > :afterId AND (:status IS NULL OR b.status = :status)
+            ORDER BY b.id
+            """)
+    List<Long> findPageIds(Long userId, long afterId, BookStatus status, Limit limit);
 
-    Optional<BookEntry> findByUserIdAndGoogleBookId(Long userId, String googleBookId);
+    @Query("""
+            SELECT b.id FROM BookEntry b
+            WHERE b.user.id = :userId AND array_contains(b.subject, :subject) AND b.id > :afterId
+              AND (:status IS NULL OR b.status = :status)
+            ORDER BY b.id
+            """)
+    List<Long> findPageIdsBySubject(Long userId, String subject, long afterId, BookStatus status, Limit limit);
+
+    @Query(value = """
+            SELECT b.id FROM book_entries b, websearch_to_tsquery('english', :query) q
+            WHERE b.user_id = :userId AND b.search_vector @@ q
+              AND (CAST(:status AS VARCHAR) IS NULL OR b.status = CAST(:status AS VARCHAR))
+            ORDER BY ts_rank_cd(b.search_vector, q) DESC, b.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Long> searchIds(Long userId, String query, String status, int limit, long offset);
+
+    List<BookEntry> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    boolean existsByUserId(Long userId);
+
+    @Query("SELECT b.googleBookId FROM BookEntry b WHERE b.user.id = :userId AND b.googleBookId IN :googleBookIds")
+    Set<String> findSavedGoogleBookIds(Long userId, Collection<String> googleBookIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE BookEntry b SET b.status = :status WHERE b.id IN :ids AND b.user.id = :userId")
+    int updateStatus(Collection<Long> ids, Long userId, BookStatus status);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM BookEntry b WHERE b.id IN :ids AND b.user.id = :userId")
+    int deleteOwned(Collection<Long> ids, Long userId);
 
     @Modifying
     @Transactional
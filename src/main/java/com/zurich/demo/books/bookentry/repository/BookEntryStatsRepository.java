@@ -0,0 +1,52 @@
+package com.zurich.demo.books.bookentry.repository;
+
+import com.zurich.demo.books.bookentry.model.BookEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@org.springframework.stereotype.Repository
+public interface BookEntryStatsRepository extends Repository<BookEntry, Long> {
+
+    @Transactional(readOnly = true)
+    @Query(value = """
+            SELECT status, entries, rated_entries AS ratedEntries, rating_sum AS ratingSum
+            FROM book_entry_status_stats
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    List<StatusStats> findStatusStats(Long userId);
+
+    @Transactional(readOnly = true)
+    @Query(value = """
+            SELECT subject, entries
+            FROM book_entry_subject_stats
+            WHERE user_id = :userId
+            ORDER BY entries DESC, subject
+            """, nativeQuery = true)
+    List<SubjectStats> findTopSubjects(Long userId, Limit limit);
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "book_entry_status_stats"))
+    @Query(value = "CALL rebuild_book_entry_stats(:userId)", nativeQuery = true)
+    void rebuild(Long userId);
+
+    interface StatusStats {
+        String getStatus();
+        long getEntries();
+        long getRatedEntries();
+        double getRatingSum();
+    }
+
+    interface SubjectStats {
+        String getSubject();
+        long getEntries();
+    }
+}
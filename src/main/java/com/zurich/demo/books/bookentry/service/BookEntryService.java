@@ -3,84 +3,211 @@ package com.zurich.demo.books.bookentry.service;
 import com.zurich.demo.books.bookentry.model.BookStatus;
 import com.zurich.demo.books.bookentry.model.BookEntry;
 import com.zurich.demo.books.bookentry.repository.BookEntryRepository;
+import com.zurich.demo.books.googlebooks.bookDTOs.BulkSaveResult;
 import com.zurich.demo.books.googlebooks.bookDTOs.SaveBookRequest;
 import com.zurich.demo.exception.DuplicateBookEntryException;
+import com.zurich.demo.pagination.CursorPage;
+import com.zurich.demo.pagination.PageSizes;
 import com.zurich.demo.user.model.User;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class BookEntryService {
 
     private static final Logger logger = LoggerFactory.getLogger(BookEntryService.class);
     private final BookEntryRepository bookEntryRepository;
+    private final PageSizes pageSizes;
+    private final Validator validator;
 
-    public BookEntryService(BookEntryRepository bookEntryRepository) {
+    public BookEntryService(BookEntryRepository bookEntryRepository, PageSizes pageSizes, Validator validator) {
         this.bookEntryRepository = bookEntryRepository;
+        this.pageSizes = pageSizes;
+        this.validator = validator;
     }
 
-    public List<BookEntry> getBookEntriesForUser(Long userId) {
+    @Transactional(readOnly = true)
+    public CursorPage<BookEntry> getBookEntriesForUser(Long userId, String cursor, Integer size, BookStatus status,
+                                                       String subject) {
         if (userId == null || userId <= 0) {
             logger.warn("Attempted to get book entries with an invalid user ID: {}", userId);
             throw new IllegalArgumentException("Invalid user ID.");
         }
-        User user = new User();
-        user.setId(userId);
-        logger.info("Fetching book entries for user ID: {}", userId);
-        return bookEntryRepository.findByUser(user);
+        int pageSize = pageSizes.resolve(size);
+        logger.info("Fetching book entries for user ID: {} (status: {}, subject: {}, page size: {})",
+                userId, status, subject, pageSize);
+
+        long afterId = CursorPage.decode(cursor);
+        List<Long> ids = subject == null || subject.isBlank()
+                ? bookEntryRepository.findPageIds(userId, afterId, status, Limit.of(pageSize + 1))
+                : bookEntryRepository.findPageIdsBySubject(userId, subject.trim(), afterId, status, Limit.of(pageSize + 1));
+        if (ids.isEmpty()) return new CursorPage<>(List.of(), null);
+        return CursorPage.of(bookEntryRepository.findByIdInOrderByIdAsc(ids), pageSize, BookEntry::getId);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<BookEntry> searchBookEntries(Long userId, String query, String cursor, Integer size, BookStatus status) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank.");
+        }
+        int pageSize = pageSizes.resolve(size);
+        long offset = CursorPage.decodeOffset(cursor);
+        logger.info("Searching book entries for user ID: {} (status: {}, page size: {})", userId, status, pageSize);
+
+        List<Long> ids = bookEntryRepository.searchIds(userId, query.trim(), status != null ? status.name() : null,
+                pageSize + 1, offset);
+        if (ids.isEmpty()) return new CursorPage<>(List.of(), null);
+
+        Map<Long, BookEntry> byId = new HashMap<>();
+        bookEntryRepository.findByIdInOrderByIdAsc(ids).forEach(entry -> byId.put(entry.getId(), entry));
+        List<BookEntry> ranked = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return CursorPage.ofOffset(ranked, pageSize, offset);
     }
 
-    public BookEntry updateOnlyStatus(Long bookId, BookStatus status) {
+    public int updateOnlyStatus(Long bookId, Long userId, BookStatus status) {
         logger.info("Attempting to update status for book entry ID: {} to status: {}", bookId, status);
-        BookEntry bookEntry = bookEntryRepository.findById(bookId)
-                .orElseThrow(() -> {
-                    logger.warn("Book entry not found with ID: {}", bookId);
-                    return new EntityNotFoundException("Book entry not found with id: " + bookId);
-                });
-        bookEntry.setStatus(status);
-        BookEntry updatedEntry = bookEntryRepository.save(bookEntry);
+        int updated = bookEntryRepository.updateStatus(List.of(bookId), userId, status);
+        if (updated == 0) {
+            logger.warn("Book entry not found with ID: {} for user ID: {}", bookId, userId);
+            throw new EntityNotFoundException("Book entry not found with id: " + bookId);
+        }
         logger.info("Successfully updated status for book entry ID: {} to status: {}", bookId, status);
-        return updatedEntry;
+        return updated;
+    }
+
+    public int updateStatuses(List<Long> ids, Long userId, BookStatus status) {
+        int updated = bookEntryRepository.updateStatus(ids, userId, status);
+        logger.info("Updated status to {} for {} of {} book entries of user ID: {}", status, updated, ids.size(), userId);
+        return updated;
     }
 
-    public void deleteBookEntry(Long id) {
+    public void deleteBookEntry(Long id, Long userId) {
         logger.info("Attempting to delete book entry with ID: {}", id);
-        if (!bookEntryRepository.existsById(id)) {
-            logger.warn("Book entry not found for deletion with ID: {}", id);
+        if (bookEntryRepository.deleteOwned(List.of(id), userId) == 0) {
+            logger.warn("Book entry not found for deletion with ID: {} for user ID: {}", id, userId);
             throw new EntityNotFoundException("Book entry not found with id: " + id);
         }
-        bookEntryRepository.deleteById(id);
         logger.info("Book entry with ID: {} deleted successfully.", id);
     }
 
+    public int deleteBookEntries(List<Long> ids, Long userId) {
+        int deleted = bookEntryRepository.deleteOwned(ids, userId);
+        logger.info("Deleted {} of {} book entries of user ID: {}", deleted, ids.size(), userId);
+        return deleted;
+    }
+
     public BookEntry saveBookEntryFromSearch(SaveBookRequest request, Long userId) {
         logger.info("Saving book entry from search for user ID: {} with Google Book ID: {}", userId, request.getGoogleBookId());
 
-        Optional<BookEntry> existingEntry = bookEntryRepository.findByUserIdAndGoogleBookId(userId, request.getGoogleBookId());
-        if (existingEntry.isPresent()) {
-            throw new DuplicateBookEntryException("This book has already been saved by the user.");
+        BookEntry entry = toEntry(request, userReference(userId));
+
+        try {
+            BookEntry savedEntry = bookEntryRepository.saveAndFlush(entry);
+            logger.info("Book entry saved successfully with ID: {}", savedEntry.getId());
+            return savedEntry;
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateBook(e)) {
+                throw new DuplicateBookEntryException("This book has already been saved by the user.");
+            }
+            throw e;
         }
+    }
 
+    public List<BulkSaveResult> saveBookEntries(List<SaveBookRequest> requests, Long userId) {
+        logger.info("Bulk saving {} book entries for user ID: {}", requests.size(), userId);
+
+        BulkSaveResult[] results = new BulkSaveResult[requests.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            SaveBookRequest request = requests.get(i);
+            String googleBookId = request == null ? null : request.getGoogleBookId();
+            String violation = firstViolation(request);
+            if (violation != null) {
+                results[i] = BulkSaveResult.invalid(i, googleBookId, violation);
+            } else if (candidates.putIfAbsent(googleBookId, i) != null) {
+                results[i] = BulkSaveResult.duplicate(i, googleBookId);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            Set<String> existing = bookEntryRepository.findSavedGoogleBookIds(userId, candidates.keySet());
+            User user = userReference(userId);
+            List<Integer> indexes = new ArrayList<>();
+            List<BookEntry> entries = new ArrayList<>();
+            candidates.forEach((googleBookId, index) -> {
+                if (existing.contains(googleBookId)) {
+                    results[index] = BulkSaveResult.duplicate(index, googleBookId);
+                } else {
+                    indexes.add(index);
+                    entries.add(toEntry(requests.get(index), user));
+                }
+            });
+
+            try {
+                List<BookEntry> saved = bookEntryRepository.saveAllAndFlush(entries);
+                for (int i = 0; i < saved.size(); i++) {
+                    results[indexes.get(i)] = BulkSaveResult.created(indexes.get(i), saved.get(i).getGoogleBookId(), saved.get(i).getId());
+                }
+            } catch (DataIntegrityViolationException e) {
+                if (isDuplicateBook(e)) {
+                    throw new DuplicateBookEntryException("Some of these books were saved concurrently, please retry.");
+                }
+                throw e;
+            }
+        }
+
+        logger.info("Bulk save for user ID: {} finished, {} of {} entries created.",
+                userId, Arrays.stream(results).filter(r -> r.outcome() == BulkSaveResult.Outcome.CREATED).count(), requests.size());
+        return Arrays.asList(results);
+    }
+
+    private String firstViolation(SaveBookRequest request) {
+        if (request == null) return "Book entry is required.";
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static BookEntry toEntry(SaveBookRequest request, User user) {
         BookEntry entry = new BookEntry();
         entry.setGoogleBookId(request.getGoogleBookId());
         entry.setTitle(request.getTitle());
-        entry.setAuthors(String.join(", ", request.getAuthors()));
+        entry.setAuthors(request.getAuthors() != null ? request.getAuthors() : List.of());
         entry.setSubject(request.getSubject() != null ? request.getSubject() : List.of());
         entry.setThumbnailUrl(request.getThumbnailUrl());
         entry.setStatus(request.getStatus());
         entry.setAverageRating(request.getAverageRating());
+        entry.setUser(user);
+        return entry;
+    }
 
+    private static User userReference(Long userId) {
         User user = new User();
         user.setId(userId);
-        entry.setUser(user);
+        return user;
+    }
 
-        BookEntry savedEntry = bookEntryRepository.save(entry);
-        logger.info("Book entry saved successfully with ID: {}", savedEntry.getId());
-        return savedEntry;
+    private static boolean isDuplicateBook(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && BookEntry.USER_BOOK_CONSTRAINT.equalsIgnoreCase(violation.getConstraintName());
     }
 }
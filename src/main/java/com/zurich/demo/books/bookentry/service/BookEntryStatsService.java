@@ -0,0 +1,68 @@
+package com.zurich.demo.books.bookentry.service;
+
+import com.zurich.demo.books.bookentry.model.BookStatus;
+import com.zurich.demo.books.bookentry.repository.BookEntryRepository;
+import com.zurich.demo.books.bookentry.repository.BookEntryStatsRepository;
+import com.zurich.demo.books.bookentry.repository.BookEntryStatsRepository.StatusStats;
+import com.zurich.demo.books.googlebooks.bookDTOs.BookEntryStats;
+import com.zurich.demo.books.googlebooks.bookDTOs.BookEntryStats.SubjectCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class BookEntryStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookEntryStatsService.class);
+    private final BookEntryStatsRepository statsRepository;
+    private final BookEntryRepository bookEntryRepository;
+    private final int topSubjects;
+
+    public BookEntryStatsService(BookEntryStatsRepository statsRepository,
+                                 BookEntryRepository bookEntryRepository,
+                                 @Value("${api.stats.top-subjects}") int topSubjects) {
+        this.statsRepository = statsRepository;
+        this.bookEntryRepository = bookEntryRepository;
+        this.topSubjects = topSubjects;
+    }
+
+    @Transactional
+    public BookEntryStats getStats(Long userId) {
+        List<StatusStats> statuses = statsRepository.findStatusStats(userId);
+        if (needsRebuild(userId, statuses)) {
+            statsRepository.rebuild(userId);
+            logger.warn("Rebuilt library statistics for user ID: {}", userId);
+            statuses = statsRepository.findStatusStats(userId);
+        }
+
+        Map<BookStatus, Long> byStatus = new EnumMap<>(BookStatus.class);
+        long total = 0;
+        Double averageReadRating = null;
+        for (StatusStats stats : statuses) {
+            if (stats.getEntries() == 0) continue;
+            BookStatus status = BookStatus.valueOf(stats.getStatus());
+            byStatus.put(status, stats.getEntries());
+            total += stats.getEntries();
+            if (status == BookStatus.READ && stats.getRatedEntries() > 0) {
+                averageReadRating = stats.getRatingSum() / stats.getRatedEntries();
+            }
+        }
+
+        List<SubjectCount> subjects = statsRepository.findTopSubjects(userId, Limit.of(topSubjects)).stream()
+                .map(s -> new SubjectCount(s.getSubject(), s.getEntries()))
+                .toList();
+        return new BookEntryStats(total, byStatus, subjects, averageReadRating);
+    }
+
+    private boolean needsRebuild(Long userId, List<StatusStats> statuses) {
+        if (statuses.isEmpty()) return bookEntryRepository.existsByUserId(userId);
+        return statuses.stream().anyMatch(s -> s.getEntries() < 0 || s.getRatedEntries() < 0);
+    }
+}
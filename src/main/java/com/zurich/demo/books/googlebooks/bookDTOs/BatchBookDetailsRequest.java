@@ -0,0 +1,17 @@
+package com.zurich.demo.books.googlebooks.bookDTOs;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchBookDetailsRequest {
+
+    @NotEmpty(message = "At least one Google Book ID is required.")
+    @Size(max = 100, message = "At most 100 Google Book IDs can be requested at once.")
+    @Schema(description = "Google Book IDs to fetch", example = "[\"zyTCAlADqUcC\", \"OEBaAAAAMAAJ\"]")
+    private List<String> ids;
+}
@@ -0,0 +1,15 @@
+package com.zurich.demo.books.googlebooks.bookDTOs;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BookDetailsResult(String id, GoogleBookDTO book, String error) {
+
+    public static BookDetailsResult found(String id, GoogleBookDTO book) {
+        return new BookDetailsResult(id, book, null);
+    }
+
+    public static BookDetailsResult failed(String id, String error) {
+        return new BookDetailsResult(id, null, error);
+    }
+}
@@ -0,0 +1,18 @@
+package com.zurich.demo.books.googlebooks.bookDTOs;
+
+import com.zurich.demo.books.bookentry.model.BookStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Aggregate statistics over the authenticated user's library")
+public record BookEntryStats(
+        @Schema(description = "Total number of book entries", example = "42") long totalEntries,
+        @Schema(description = "Number of book entries per status") Map<BookStatus, Long> entriesByStatus,
+        @Schema(description = "Most common subjects, most frequent first") List<SubjectCount> topSubjects,
+        @Schema(description = "Average Google Books rating of READ entries, absent when none are rated", example = "4.1") Double averageReadRating) {
+
+    public record SubjectCount(@Schema(example = "Fiction") String subject, @Schema(example = "12") long entries) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.zurich.demo.books.googlebooks.bookDTOs;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkDeleteRequest {
+
+    @NotEmpty(message = "At least one book entry ID is required.")
+    @Size(max = 500, message = "At most 500 book entries can be deleted at once.")
+    @Schema(description = "IDs of the book entries to delete", example = "[1, 2, 3]")
+    private List<Long> ids;
+}
@@ -0,0 +1,17 @@
+package com.zurich.demo.books.googlebooks.bookDTOs;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkSaveBookRequest {
+
+    @NotEmpty(message = "At least one book entry is required.")
+    @Size(max = 500, message = "At most 500 book entries can be saved at once.")
+    @Schema(description = "Book entries to save; each one is validated and reported individually")
+    private List<SaveBookRequest> entries;
+}
@@ -0,0 +1,21 @@
+package com.zurich.demo.books.googlebooks.bookDTOs;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkSaveResult(int index, String googleBookId, Outcome outcome, Long id, String error) {
+
+    public enum Outcome { CREATED, DUPLICATE, INVALID }
+
+    public static BulkSaveResult created(int index, String googleBookId, Long id) {
+        return new BulkSaveResult(index, googleBookId, Outcome.CREATED, id, null);
+    }
+
+    public static BulkSaveResult duplicate(int index, String googleBookId) {
+        return new BulkSaveResult(index, googleBookId, Outcome.DUPLICATE, null, "This book has already been saved by the user.");
+    }
+
+    public static BulkSaveResult invalid(int index, String googleBookId, String error) {
+        return new BulkSaveResult(index, googleBookId, Outcome.INVALID, null, error);
+    }
+}
@@ -0,0 +1,23 @@
+package com.zurich.demo.books.googlebooks.bookDTOs;
+
+import com.zurich.demo.books.bookentry.model.BookStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkStatusUpdateRequest {
+
+    @NotEmpty(message = "At least one book entry ID is required.")
+    @Size(max = 500, message = "At most 500 book entries can be updated at once.")
+    @Schema(description = "IDs of the book entries to update", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @NotNull(message = "The book status is required.")
+    @Schema(description = "New status", example = "READ")
+    private BookStatus status;
+}
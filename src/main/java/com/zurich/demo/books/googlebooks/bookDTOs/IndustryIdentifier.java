@@ -1,6 +0,0 @@
-package com.zurich.demo.books.googlebooks.bookDTOs;
-
-public record IndustryIdentifier(
-        String type,
-        String identifier
-) {}
@@ -0,0 +1,7 @@
+package com.zurich.demo.books.googlebooks.bookDTOs;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Number of book entries affected by a change")
+public record MutationResult(@Schema(example = "3") int affected) {
+}
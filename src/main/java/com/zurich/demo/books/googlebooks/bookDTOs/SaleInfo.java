@@ -1,6 +0,0 @@
-package com.zurich.demo.books.googlebooks.bookDTOs;
-
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
-
-@JsonIgnoreProperties(ignoreUnknown = true)
-public record SaleInfo(String saleability, Price listPrice, Price retailPrice, String buyLink) {}
\ No newline at end of file
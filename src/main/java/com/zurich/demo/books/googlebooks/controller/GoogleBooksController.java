@@ -3,6 +3,8 @@ package com.zurich.demo.books.googlebooks.controller;
 import com.zurich.demo.books.googlebooks.service.GoogleBooksDetailsService;
 import com.zurich.demo.books.googlebooks.service.GoogleBooksRecommendationService;
 import com.zurich.demo.books.googlebooks.service.GoogleBooksSearchService;
+import com.zurich.demo.books.googlebooks.bookDTOs.BatchBookDetailsRequest;
+import com.zurich.demo.books.googlebooks.bookDTOs.BookDetailsResult;
 import com.zurich.demo.books.googlebooks.bookDTOs.GoogleBookDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,6 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "External Books API", description = "Endpoints for searching books using the Google Books API")
 @SecurityRequirement(name = "bearerAuth")
@@ -84,6 +88,25 @@ public class GoogleBooksController {
                 });
     }
 
+    @Operation(
+            summary = "Get Google Book details for many IDs",
+            description = "Fetches details for up to 100 Google Book IDs in one call, returning a result or an error per ID"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Per-ID results returned",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookDetailsResult.class))),
+            @ApiResponse(responseCode = "400", description = "Missing or too many IDs", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
+    })
+    @PostMapping("/batch")
+    public CompletableFuture<List<BookDetailsResult>> getBookDetailsBatch(
+            @Parameter(description = "Google Book IDs to fetch")
+            @Valid @RequestBody BatchBookDetailsRequest request) {
+        logger.info("Fetching Google Book details for {} IDs", request.getIds().size());
+        return googleBooksDetailsService.getBookDetails(request.getIds());
+    }
+
     @Operation(
             summary = "Get book recommendations",
             description = "Returns book recommendations based on a given title and/or subject"
@@ -95,7 +118,7 @@ public class GoogleBooksController {
             @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
     })
     @GetMapping("/recommendations")
-    public List<GoogleBookDTO> getRecommendations(
+    public CompletableFuture<List<GoogleBookDTO>> getRecommendations(
             @Parameter(description = "Book title", example = "The Power of Habit") @RequestParam(required = false) String title,
             @Parameter(description = "Book subject", example = "Drama") @RequestParam(required = false) String subject) {
         logger.info("Getting recommendations for title: '{}' or subject: '{}'", title, subject);
@@ -0,0 +1,27 @@
+package com.zurich.demo.books.googlebooks.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "google_books_responses")
+@Data
+public class StoredGoogleBooksResponse {
+
+    @Id
+    @Column(name = "cache_key", length = 1024)
+    private String cacheKey;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private String body;
+
+    private String etag;
+
+    @Column(name = "fetched_at", nullable = false)
+    private Instant fetchedAt;
+}
@@ -0,0 +1,38 @@
+package com.zurich.demo.books.googlebooks.repository;
+
+import com.zurich.demo.books.googlebooks.model.StoredGoogleBooksResponse;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+@Repository
+public interface StoredGoogleBooksResponseRepository extends JpaRepository<StoredGoogleBooksResponse, String> {
+
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "google_books_responses"))
+    @Query(value = """
+            INSERT INTO google_books_responses (cache_key, body, etag, fetched_at)
+            VALUES (:cacheKey, CAST(:body AS jsonb), :etag, :fetchedAt)
+            ON CONFLICT (cache_key) DO UPDATE
+            SET body = EXCLUDED.body, etag = EXCLUDED.etag, fetched_at = EXCLUDED.fetched_at
+            """, nativeQuery = true)
+    void upsert(String cacheKey, String body, String etag, Instant fetchedAt);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE StoredGoogleBooksResponse r SET r.fetchedAt = :fetchedAt WHERE r.cacheKey = :cacheKey")
+    void touch(String cacheKey, Instant fetchedAt);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM StoredGoogleBooksResponse r WHERE r.fetchedAt < :cutoff")
+    int deleteFetchedBefore(Instant cutoff);
+}
@@ -0,0 +1,91 @@
+package com.zurich.demo.books.googlebooks.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zurich.demo.books.googlebooks.bookDTOs.GoogleBookDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+@Component
+public class GoogleBooksCache {
+
+    private final Cache<QueryKey, List<GoogleBookDTO>> queries;
+    private final Cache<String, GoogleBookDTO> volumes;
+    private final Cache<String, String> titleCategories;
+
+    public GoogleBooksCache(MeterRegistry meterRegistry,
+                            @Value("${google.books.cache.max-size}") long maxSize,
+                            @Value("${google.books.cache.ttl}") Duration ttl) {
+        this.queries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.volumes = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.titleCategories = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, queries, "googleBooksQueries");
+        CaffeineCacheMetrics.monitor(meterRegistry, volumes, "googleBooksVolumes");
+        CaffeineCacheMetrics.monitor(meterRegistry, titleCategories, "googleBooksTitleCategories");
+    }
+
+    public List<GoogleBookDTO> getQuery(QueryKey key) {
+        return queries.getIfPresent(key);
+    }
+
+    public void putQuery(QueryKey key, List<GoogleBookDTO> books) {
+        queries.put(key, books);
+        books.forEach(this::rememberCategory);
+    }
+
+    public GoogleBookDTO getVolume(String googleBookId) {
+        return volumes.getIfPresent(googleBookId);
+    }
+
+    public void putVolume(GoogleBookDTO book) {
+        volumes.put(book.getId(), book);
+        rememberCategory(book);
+    }
+
+    public Optional<String> findCategory(String title) {
+        return Optional.ofNullable(titleCategories.getIfPresent(QueryKey.normalize(title)));
+    }
+
+    private void rememberCategory(GoogleBookDTO book) {
+        if (book.getTitle() == null || book.getCategories().isEmpty()) return;
+        titleCategories.put(QueryKey.normalize(book.getTitle()), book.getCategories().get(0));
+    }
+
+    public record QueryKey(String query, int maxResults, String country) {
+
+        public static QueryKey of(String query, int maxResults, String country) {
+            return new QueryKey(normalize(query), maxResults, country == null ? "" : country.toUpperCase(Locale.ROOT));
+        }
+
+        public String storeKey() {
+            return "query:" + query + "|" + maxResults + "|" + country;
+        }
+
+        static String normalize(String query) {
+            if (query == null) return "";
+            return query.replace('+', ' ')
+                    .trim()
+                    .replaceAll("\\s+", " ")
+                    .toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.zurich.demo.books.googlebooks.service;
+
+import com.zurich.demo.exception.ExternalApiUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Component
+public class GoogleBooksCallGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleBooksCallGuard.class);
+
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public GoogleBooksCallGuard(MeterRegistry meterRegistry,
+                                @Value("${google.books.breaker.failure-rate-threshold}") float failureRateThreshold,
+                                @Value("${google.books.breaker.slow-call-threshold}") Duration slowCallThreshold,
+                                @Value("${google.books.breaker.window-size}") int windowSize,
+                                @Value("${google.books.breaker.open-duration}") Duration openDuration,
+                                @Value("${google.books.limiter.initial-limit}") int initialLimit,
+                                @Value("${google.books.limiter.min-limit}") int minLimit,
+                                @Value("${google.books.limiter.max-limit}") int maxLimit,
+                                @Value("${google.books.limiter.latency-threshold}") Duration latencyThreshold) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(100)
+                .slowCallDurationThreshold(slowCallThreshold)
+                .slidingWindowSize(windowSize)
+                .minimumNumberOfCalls(Math.max(1, windowSize / 2))
+                .waitDurationInOpenState(openDuration)
+                .recordException(GoogleBooksCallGuard::isUpstreamFailure)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        this.circuitBreaker = registry.circuitBreaker("googleBooks");
+        this.circuitBreaker.getEventPublisher().onStateTransition(event ->
+                logger.warn("Google Books circuit breaker: {}", event.getStateTransition()));
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        this.limiter = new AdaptiveConcurrencyLimiter(meterRegistry, "googleBooks",
+                initialLimit, minLimit, maxLimit, latencyThreshold);
+    }
+
+    public <T> T call(Runnable onAdmitted, Supplier<T> call) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new ExternalApiUnavailableException("Google Books API is temporarily unavailable.",
+                    CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+        }
+        if (!limiter.tryAcquire()) {
+            circuitBreaker.releasePermission();
+            throw new ExternalApiUnavailableException("Too many concurrent Google Books API calls, please retry shortly.");
+        }
+        try {
+            onAdmitted.run();
+        } catch (RuntimeException e) {
+            circuitBreaker.releasePermission();
+            limiter.onIgnored();
+            throw e;
+        }
+
+        long start = System.nanoTime();
+        try {
+            T result = call.get();
+            long latency = System.nanoTime() - start;
+            circuitBreaker.onSuccess(latency, TimeUnit.NANOSECONDS);
+            limiter.onSuccess(latency);
+            return result;
+        } catch (RuntimeException e) {
+            long latency = System.nanoTime() - start;
+            circuitBreaker.onError(latency, TimeUnit.NANOSECONDS, e);
+            if (isUpstreamFailure(e)) limiter.onFailure();
+            else limiter.onIgnored();
+            throw e;
+        }
+    }
+
+    private static boolean isUpstreamFailure(Throwable e) {
+        return !(e instanceof HttpClientErrorException) || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+}
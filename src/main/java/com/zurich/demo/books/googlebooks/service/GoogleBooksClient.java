@@ -1,24 +1,45 @@
 package com.zurich.demo.books.googlebooks.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.zurich.demo.books.googlebooks.bookDTOs.BookApiResponse;
+import com.zurich.demo.books.googlebooks.bookDTOs.GoogleBookDTO;
+import com.zurich.demo.books.googlebooks.service.GoogleBooksCache.QueryKey;
+import com.zurich.demo.books.googlebooks.service.GoogleBooksStore.StoredEntry;
 import com.zurich.demo.exception.ExternalApiException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.Getter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RequestCallback;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
 @Component
 public class GoogleBooksClient {
 
     private static final Logger logger = LoggerFactory.getLogger(GoogleBooksClient.class);
+    private static final TypeReference<List<GoogleBookDTO>> BOOK_LIST = new TypeReference<>() {};
+    private static final TypeReference<GoogleBookDTO> BOOK = new TypeReference<>() {};
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final GoogleBooksCache cache;
+    private final GoogleBooksStore store;
+    private final GoogleBooksCallGuard guard;
+    private final GoogleBooksQuotaGovernor quota;
+    private final SingleFlight<QueryKey, List<GoogleBookDTO>> queryFlights;
+    private final SingleFlight<String, GoogleBookDTO> volumeFlights;
     @Getter
     private final String apiKey;
     @Getter
@@ -26,29 +47,120 @@ public class GoogleBooksClient {
 
     public GoogleBooksClient(RestTemplate restTemplate,
                              ObjectMapper objectMapper,
+                             GoogleBooksCache cache,
+                             GoogleBooksStore store,
+                             GoogleBooksCallGuard guard,
+                             GoogleBooksQuotaGovernor quota,
+                             MeterRegistry meterRegistry,
                              @Value("${google.books.api.key}") String apiKey,
                              @Value("${google.books.api.baseUrl}") String baseUrl) {
         this.restTemplate = restTemplate;
         this.objectMapper = objectMapper;
+        this.cache = cache;
+        this.store = store;
+        this.guard = guard;
+        this.quota = quota;
+        this.queryFlights = new SingleFlight<>(meterRegistry, "query");
+        this.volumeFlights = new SingleFlight<>(meterRegistry, "volume");
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
     }
 
-    public BookApiResponse executeQuery(String query, int maxResults, String country) {
+    public List<GoogleBookDTO> executeQuery(String query, int maxResults, String country, RequestPriority priority) {
+        QueryKey key = QueryKey.of(query, maxResults, country);
+        List<GoogleBookDTO> cached = cache.getQuery(key);
+        if (cached != null) return cached;
+
+        return queryFlights.execute(key, () -> {
+            List<GoogleBookDTO> landed = cache.getQuery(key);
+            if (landed != null) return landed;
+
+            List<GoogleBookDTO> books = load(key.storeKey(), BOOK_LIST, queryUri(query, maxResults, country),
+                    GoogleBooksMapper::readSearchResponse, priority);
+            cache.putQuery(key, books);
+            return books;
+        });
+    }
+
+    public GoogleBookDTO getVolume(String googleBookId, RequestPriority priority) {
+        GoogleBookDTO cached = cache.getVolume(googleBookId);
+        if (cached != null) return cached;
+
+        return volumeFlights.execute(googleBookId, () -> {
+            GoogleBookDTO landed = cache.getVolume(googleBookId);
+            if (landed != null) return landed;
+
+            GoogleBookDTO book = load("volume:" + googleBookId, BOOK, volumeUri(googleBookId),
+                    GoogleBooksMapper::readVolume, priority);
+            if (book != null && book.getId() != null) cache.putVolume(book);
+            return book;
+        });
+    }
+
+    public GoogleBookDTO getCachedVolume(String googleBookId) {
+        return cache.getVolume(googleBookId);
+    }
+
+    private <T> T load(String storeKey, TypeReference<T> type, String uri, JsonReader<T> reader,
+                       RequestPriority priority) {
+        Optional<StoredEntry<T>> stored = store.find(storeKey, type);
+        if (stored.isPresent() && stored.get().fresh()) return stored.get().value();
+
+        String etag = stored.map(StoredEntry::etag).orElse(null);
+        Fetched<T> fetched = get(uri, reader, etag, priority);
+        if (fetched.notModified() && stored.isPresent()) {
+            store.touch(storeKey);
+            return stored.get().value();
+        }
+
+        if (fetched.value() != null) store.save(storeKey, fetched.value(), fetched.etag());
+        return fetched.value();
+    }
+
+    private String queryUri(String query, int maxResults, String country) {
         String uri = UriComponentsBuilder.fromUriString(baseUrl)
                 .queryParam("q", query)
                 .queryParam("country", country)
                 .queryParam("maxResults", maxResults)
                 .queryParam("printType", "books")
+                .queryParam("fields", GoogleBooksMapper.SEARCH_FIELDS)
                 .queryParam("key", apiKey)
                 .encode()
                 .toUriString();
 
-        logger.info("Executing Google Books API call. URI: '{}'", uri);
+        logger.debug("Executing Google Books query '{}' (maxResults={}, country={})", query, maxResults, country);
+        return uri;
+    }
+
+    private String volumeUri(String googleBookId) {
+        return UriComponentsBuilder.fromUriString(baseUrl + "/" + googleBookId)
+                .queryParam("fields", GoogleBooksMapper.VOLUME_FIELDS)
+                .queryParam("key", apiKey)
+                .encode()
+                .toUriString();
+    }
+
+    private <T> Fetched<T> get(String uri, JsonReader<T> reader, String etag, RequestPriority priority) {
+        RequestCallback conditional = request -> {
+            if (etag != null) request.getHeaders().setIfNoneMatch(etag);
+        };
+        ResponseExtractor<Fetched<T>> extractor = response -> {
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                return new Fetched<>(null, etag, true);
+            }
+            try (JsonParser parser = objectMapper.getFactory().createParser(response.getBody())) {
+                return new Fetched<>(reader.read(parser), response.getHeaders().getETag(), false);
+            }
+        };
 
         try {
-            String rawJsonResponse = restTemplate.getForObject(uri, String.class);
-            return objectMapper.readValue(rawJsonResponse, BookApiResponse.class);
+            return guard.call(() -> quota.acquire(priority),
+                    () -> restTemplate.execute(uri, HttpMethod.GET, conditional, extractor));
+        } catch (ExternalApiException e) {
+            logger.warn("Google Books API call rejected: {}", e.getMessage());
+            throw e;
+        } catch (HttpClientErrorException.NotFound e) {
+            throw e;
         } catch (HttpClientErrorException e) {
             String responseBody = e.getResponseBodyAsString();
             logger.error("Google Books API error: {}", responseBody, e);
@@ -62,4 +174,10 @@ public class GoogleBooksClient {
         }
     }
 
+    private record Fetched<T>(T value, String etag, boolean notModified) {}
+
+    @FunctionalInterface
+    private interface JsonReader<T> {
+        T read(JsonParser parser) throws IOException;
+    }
 }
@@ -1,39 +1,101 @@
 package com.zurich.demo.books.googlebooks.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zurich.demo.books.googlebooks.bookDTOs.BookDetailsResult;
 import com.zurich.demo.books.googlebooks.bookDTOs.GoogleBookDTO;
-import com.zurich.demo.books.googlebooks.bookDTOs.Volume;
+import com.zurich.demo.exception.ExternalApiException;
+import com.zurich.demo.exception.ExternalApiUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.client.HttpClientErrorException;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 public class GoogleBooksDetailsService {
 
+    private static final Logger logger = LoggerFactory.getLogger(GoogleBooksDetailsService.class);
+
     private final GoogleBooksClient client;
-    private final RestTemplate restTemplate;
-    private final ObjectMapper mapper;
+    private final Executor executor;
+    private final int batchConcurrency;
 
-    public GoogleBooksDetailsService(GoogleBooksClient client, RestTemplate restTemplate, ObjectMapper mapper) {
+    public GoogleBooksDetailsService(GoogleBooksClient client,
+                                     @Qualifier("googleBooksExecutor") Executor executor,
+                                     @Value("${google.books.batch.max-concurrency}") int batchConcurrency) {
         this.client = client;
-        this.restTemplate = restTemplate;
-        this.mapper = mapper;
+        this.executor = executor;
+        this.batchConcurrency = batchConcurrency;
     }
 
     public Optional<GoogleBookDTO> getBookDetails(String googleBookId) {
-        String uri = UriComponentsBuilder.fromUriString(client.getBaseUrl() + "/" + googleBookId)
-                .queryParam("key", client.getApiKey())
-                .encode()
-                .toUriString();
-
         try {
-            String raw = restTemplate.getForObject(uri, String.class);
-            Volume volume = mapper.readValue(raw, Volume.class);
-            return Optional.of(GoogleBooksMapper.toDto(volume));
-        } catch (Exception e) {
+            return Optional.ofNullable(client.getVolume(googleBookId, RequestPriority.DETAILS));
+        } catch (HttpClientErrorException.NotFound e) {
             return Optional.empty();
         }
     }
+
+    public CompletableFuture<List<BookDetailsResult>> getBookDetails(List<String> googleBookIds) {
+        List<String> ids = googleBookIds.stream()
+                .filter(id -> id != null && !id.isBlank())
+                .distinct()
+                .toList();
+        Map<String, BookDetailsResult> results = new ConcurrentHashMap<>();
+        Queue<String> pending = new ConcurrentLinkedQueue<>();
+
+        for (String id : ids) {
+            GoogleBookDTO cached = client.getCachedVolume(id);
+            if (cached != null) results.put(id, BookDetailsResult.found(id, cached));
+            else pending.add(id);
+        }
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        int wanted = Math.min(batchConcurrency, pending.size());
+        for (int i = 0; i < wanted; i++) {
+            try {
+                workers.add(CompletableFuture.runAsync(() -> drain(pending, results), executor));
+            } catch (RejectedExecutionException e) {
+                logger.warn("Google Books executor saturated, running batch with {} of {} workers.", i, wanted);
+                break;
+            }
+        }
+        if (wanted > 0 && workers.isEmpty()) {
+            throw new ExternalApiUnavailableException("Server is busy, please retry shortly.");
+        }
+
+        return CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new))
+                .thenApply(done -> ids.stream().map(results::get).toList());
+    }
+
+    private void drain(Queue<String> pending, Map<String, BookDetailsResult> results) {
+        String id;
+        while ((id = pending.poll()) != null) {
+            results.put(id, lookup(id));
+        }
+    }
+
+    private BookDetailsResult lookup(String googleBookId) {
+        try {
+            GoogleBookDTO book = client.getVolume(googleBookId, RequestPriority.BACKGROUND);
+            return book != null
+                    ? BookDetailsResult.found(googleBookId, book)
+                    : BookDetailsResult.failed(googleBookId, "Book not found.");
+        } catch (HttpClientErrorException.NotFound e) {
+            return BookDetailsResult.failed(googleBookId, "Book not found.");
+        } catch (ExternalApiException e) {
+            return BookDetailsResult.failed(googleBookId, e.getMessage());
+        }
+    }
 }
@@ -1,43 +1,153 @@
 package com.zurich.demo.books.googlebooks.service;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.zurich.demo.books.googlebooks.bookDTOs.GoogleBookDTO;
-import com.zurich.demo.books.googlebooks.bookDTOs.Volume;
-import com.zurich.demo.books.googlebooks.bookDTOs.VolumeInfo;
+
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 public class GoogleBooksMapper {
 
-    public static GoogleBookDTO toDto(Volume volume) {
-        VolumeInfo info = volume.volumeInfo();
-        GoogleBookDTO dto = new GoogleBookDTO();
+    public static final String VOLUME_FIELDS = "id,volumeInfo(title,authors,publisher,publishedDate,description,"
+            + "pageCount,printType,categories,averageRating,ratingsCount,language,previewLink,infoLink,"
+            + "canonicalVolumeLink,industryIdentifiers,imageLinks/thumbnail)";
+    public static final String SEARCH_FIELDS = "items(" + VOLUME_FIELDS + ")";
 
-        dto.setId(volume.id());
-        dto.setTitle(info.title());
-        dto.setAuthors(info.authors() != null ? info.authors() : Collections.emptyList());
-        dto.setCategories(info.categories() != null ? info.categories() : Collections.emptyList());
-        dto.setPublisher(info.publisher());
-        dto.setPublishedDate(info.publishedDate());
-        dto.setDescription(info.description());
-        dto.setPageCount(info.pageCount());
-        dto.setPrintType(info.printType());
-        dto.setAverageRating(info.averageRating());
-        dto.setRatingsCount(info.ratingsCount());
-        dto.setLanguage(info.language());
-        dto.setPreviewLink(info.previewLink());
-        dto.setInfoLink(info.infoLink());
-        dto.setCanonicalVolumeLink(info.canonicalVolumeLink());
-
-        if (info.imageLinks() != null) {
-            dto.setThumbnailUrl(info.imageLinks().thumbnail());
-        }
-
-        if (info.industryIdentifiers() != null) {
-            info.industryIdentifiers().stream()
-                    .filter(id -> "ISBN_13".equals(id.type()))
-                    .findFirst()
-                    .ifPresent(id -> dto.setIsbn13(id.identifier()));
+    public static List<GoogleBookDTO> readSearchResponse(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) return List.of();
+
+        List<GoogleBookDTO> books = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    books.add(readVolumeObject(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
         }
+        return List.copyOf(books);
+    }
+
+    public static GoogleBookDTO readVolume(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) return null;
+        return readVolumeObject(parser);
+    }
+
+    private static GoogleBookDTO readVolumeObject(JsonParser parser) throws IOException {
+        GoogleBookDTO dto = new GoogleBookDTO();
+        dto.setAuthors(Collections.emptyList());
+        dto.setCategories(Collections.emptyList());
 
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("id".equals(field)) {
+                dto.setId(readString(parser));
+            } else if ("volumeInfo".equals(field) && value == JsonToken.START_OBJECT) {
+                readVolumeInfo(parser, dto);
+            } else {
+                parser.skipChildren();
+            }
+        }
         return dto;
     }
+
+    private static void readVolumeInfo(JsonParser parser, GoogleBookDTO dto) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "title" -> dto.setTitle(readString(parser));
+                case "authors" -> dto.setAuthors(readStringList(parser));
+                case "publisher" -> dto.setPublisher(readString(parser));
+                case "publishedDate" -> dto.setPublishedDate(readString(parser));
+                case "description" -> dto.setDescription(readString(parser));
+                case "pageCount" -> dto.setPageCount(readInteger(parser));
+                case "printType" -> dto.setPrintType(readString(parser));
+                case "categories" -> dto.setCategories(readStringList(parser));
+                case "averageRating" -> dto.setAverageRating(readDouble(parser));
+                case "ratingsCount" -> dto.setRatingsCount(readInteger(parser));
+                case "language" -> dto.setLanguage(readString(parser));
+                case "previewLink" -> dto.setPreviewLink(readString(parser));
+                case "infoLink" -> dto.setInfoLink(readString(parser));
+                case "canonicalVolumeLink" -> dto.setCanonicalVolumeLink(readString(parser));
+                case "industryIdentifiers" -> readIndustryIdentifiers(parser, dto);
+                case "imageLinks" -> readImageLinks(parser, dto);
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private static void readIndustryIdentifiers(JsonParser parser, GoogleBookDTO dto) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String type = null;
+            String identifier = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("type".equals(field)) type = readString(parser);
+                else if ("identifier".equals(field)) identifier = readString(parser);
+                else parser.skipChildren();
+            }
+            if (dto.getIsbn13() == null && "ISBN_13".equals(type)) {
+                dto.setIsbn13(identifier);
+            }
+        }
+    }
+
+    private static void readImageLinks(JsonParser parser, GoogleBookDTO dto) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("thumbnail".equals(field)) dto.setThumbnailUrl(readString(parser));
+            else parser.skipChildren();
+        }
+    }
+
+    private static List<String> readStringList(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String value = readString(parser);
+            if (value != null) values.add(value);
+        }
+        return values;
+    }
+
+    private static String readString(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    private static Integer readInteger(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) return parser.getIntValue();
+        parser.skipChildren();
+        return null;
+    }
+
+    private static Double readDouble(JsonParser parser) throws IOException {
+        if (parser.currentToken().isNumeric()) return parser.getDoubleValue();
+        parser.skipChildren();
+        return null;
+    }
 }
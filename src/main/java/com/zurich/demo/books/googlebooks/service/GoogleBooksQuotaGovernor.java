@@ -0,0 +1,112 @@
+package com.zurich.demo.books.googlebooks.service;
+
+import com.zurich.demo.exception.ExternalApiUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class GoogleBooksQuotaGovernor {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleBooksQuotaGovernor.class);
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final double tokensPerSecond;
+    private final double capacity;
+    private final long dailyLimit;
+    private final Map<RequestPriority, Counter> acquired = new EnumMap<>(RequestPriority.class);
+    private final Map<RequestPriority, Counter> rejected = new EnumMap<>(RequestPriority.class);
+
+    private double tokens;
+    private long lastRefillNanos;
+    private LocalDate day;
+    private long usedToday;
+
+    public GoogleBooksQuotaGovernor(MeterRegistry meterRegistry,
+                                    @Value("${google.books.quota.per-second}") double tokensPerSecond,
+                                    @Value("${google.books.quota.daily}") long dailyLimit) {
+        this.tokensPerSecond = tokensPerSecond;
+        this.capacity = Math.max(1, tokensPerSecond);
+        this.dailyLimit = dailyLimit;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+        this.day = LocalDate.now(QUOTA_ZONE);
+
+        for (RequestPriority priority : RequestPriority.values()) {
+            String tag = priority.name().toLowerCase(Locale.ROOT);
+            acquired.put(priority, Counter.builder("google.books.quota.acquired").tag("priority", tag).register(meterRegistry));
+            rejected.put(priority, Counter.builder("google.books.quota.rejected").tag("priority", tag).register(meterRegistry));
+        }
+        Gauge.builder("google.books.quota.tokens", this, GoogleBooksQuotaGovernor::availableTokens).register(meterRegistry);
+        Gauge.builder("google.books.quota.daily.used", this, GoogleBooksQuotaGovernor::usedToday).register(meterRegistry);
+        Gauge.builder("google.books.quota.daily.remaining", this, g -> g.dailyLimit - g.usedToday()).register(meterRegistry);
+    }
+
+    public void acquire(RequestPriority priority) {
+        long deadline = System.nanoTime() + priority.maxWait().toNanos();
+        try {
+            while (true) {
+                long waitNanos = tryAcquire(priority);
+                if (waitNanos == 0) {
+                    acquired.get(priority).increment();
+                    return;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (waitNanos < 0 || remaining <= 0) break;
+                TimeUnit.NANOSECONDS.sleep(Math.min(waitNanos, remaining));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        rejected.get(priority).increment();
+        logger.warn("Google Books quota exhausted, dropping {} call", priority);
+        throw new ExternalApiUnavailableException("Google Books API quota exhausted, please retry later.");
+    }
+
+    private synchronized long tryAcquire(RequestPriority priority) {
+        refill();
+        if (usedToday + 1 > dailyLimit * (1 - priority.reservedFraction())) return -1;
+
+        double floor = Math.min(capacity * priority.reservedFraction(), capacity - 1);
+        if (tokens - 1 >= floor) {
+            tokens -= 1;
+            usedToday++;
+            return 0;
+        }
+        return (long) ((floor + 1 - tokens) / tokensPerSecond * 1_000_000_000L);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) / 1_000_000_000.0 * tokensPerSecond);
+        lastRefillNanos = now;
+
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        if (!today.equals(day)) {
+            day = today;
+            usedToday = 0;
+        }
+    }
+
+    private synchronized double availableTokens() {
+        refill();
+        return tokens;
+    }
+
+    private synchronized long usedToday() {
+        refill();
+        return usedToday;
+    }
+}
@@ -1,61 +1,125 @@
 package com.zurich.demo.books.googlebooks.service;
 
 import com.zurich.demo.books.googlebooks.bookDTOs.GoogleBookDTO;
-import com.zurich.demo.books.googlebooks.bookDTOs.BookApiResponse;
+import com.zurich.demo.books.googlebooks.service.GoogleBooksCache.QueryKey;
+import com.zurich.demo.exception.ExternalApiUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 public class GoogleBooksRecommendationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(GoogleBooksRecommendationService.class);
+    private static final int RECOMMENDATIONS = 10;
+
     private final GoogleBooksClient client;
+    private final GoogleBooksCache cache;
+    private final Executor executor;
+    private final Duration deadline;
 
-    public GoogleBooksRecommendationService(GoogleBooksClient client) {
+    public GoogleBooksRecommendationService(GoogleBooksClient client,
+                                            GoogleBooksCache cache,
+                                            @Qualifier("googleBooksExecutor") Executor executor,
+                                            @Value("${google.books.recommendations.deadline}") Duration deadline) {
         this.client = client;
+        this.cache = cache;
+        this.executor = executor;
+        this.deadline = deadline;
     }
 
-    public List<GoogleBookDTO> findRecommendations(String title, String subject) {
+    public CompletableFuture<List<GoogleBookDTO>> findRecommendations(String title, String subject) {
         if (subject != null && !subject.isBlank()) {
-            return findBySubject(subject);
+            return withDeadline(findBySubject(subject), () -> cachedBySubject(subject));
         }
         if (title != null && !title.isBlank()) {
             return findByTitleCategory(title);
         }
-        return Collections.emptyList();
+        return CompletableFuture.completedFuture(Collections.emptyList());
     }
 
-    private List<GoogleBookDTO> findBySubject(String subject) {
-        String query = "subject:" + subject;
-        BookApiResponse response = client.executeQuery(query, 10, "US");
-        if (response == null || response.items() == null) return Collections.emptyList();
-        return response.items().stream()
-                .map(GoogleBooksMapper::toDto)
-                .collect(Collectors.toList());
+    private CompletableFuture<List<GoogleBookDTO>> findBySubject(String subject) {
+        return submit(() -> client.executeQuery("subject:" + subject, RECOMMENDATIONS, "US", RequestPriority.RECOMMENDATIONS),
+                () -> {
+                    List<GoogleBookDTO> cached = cache.getQuery(QueryKey.of("subject:" + subject, RECOMMENDATIONS, "US"));
+                    if (cached == null) throw new ExternalApiUnavailableException("Server is busy, please retry shortly.");
+                    return cached;
+                });
     }
 
-    private List<GoogleBookDTO> findByTitleCategory(String title) {
-        String query = "intitle:" + title;
-        BookApiResponse initial = client.executeQuery(query, 1, "US");
+    private CompletableFuture<List<GoogleBookDTO>> findByTitleCategory(String title) {
+        AtomicReference<String> resolvedCategory = new AtomicReference<>();
+
+        CompletableFuture<Optional<String>> category = cache.findCategory(title)
+                .map(found -> CompletableFuture.completedFuture(Optional.of(found)))
+                .orElseGet(() -> submit(() ->
+                        client.executeQuery("intitle:" + title, 1, "US", RequestPriority.RECOMMENDATIONS).stream()
+                                .findFirst()
+                                .flatMap(book -> book.getCategories().stream().findFirst()),
+                        () -> {
+                            throw new ExternalApiUnavailableException("Server is busy, please retry shortly.");
+                        }));
+
+        CompletableFuture<List<GoogleBookDTO>> recommendations = category.thenCompose(found -> found
+                .map(c -> {
+                    resolvedCategory.set(c);
+                    return findBySubject(c).thenApply(books -> excludeTitle(books, title));
+                })
+                .orElseGet(() -> CompletableFuture.completedFuture(Collections.emptyList())));
 
-        Optional<String> categoryOpt = Optional.ofNullable(initial)
-                .flatMap(r -> Optional.ofNullable(r.items()))
-                .flatMap(items -> items.stream().findFirst())
-                .flatMap(v -> Optional.ofNullable(v.volumeInfo().categories()))
-                .flatMap(c -> c.stream().findFirst());
+        return withDeadline(recommendations, () -> {
+            String found = resolvedCategory.get();
+            return found != null ? excludeTitle(cachedBySubject(found), title) : Collections.emptyList();
+        });
+    }
 
-        if (categoryOpt.isEmpty()) return Collections.emptyList();
+    private <T> CompletableFuture<T> submit(Supplier<T> call, Supplier<T> whenSaturated) {
+        try {
+            return CompletableFuture.supplyAsync(call, executor);
+        } catch (RejectedExecutionException e) {
+            logger.warn("Google Books executor saturated, answering recommendations from cache");
+            return CompletableFuture.completedFuture(whenSaturated.get());
+        }
+    }
 
-        String recommendationQuery = "subject:" + categoryOpt.get();
-        BookApiResponse recommendations = client.executeQuery(recommendationQuery, 10, "US");
+    private List<GoogleBookDTO> cachedBySubject(String subject) {
+        List<GoogleBookDTO> cached = cache.getQuery(QueryKey.of("subject:" + subject, RECOMMENDATIONS, "US"));
+        return cached != null ? cached : Collections.emptyList();
+    }
 
-        if (recommendations == null || recommendations.items() == null) return Collections.emptyList();
+    private CompletableFuture<List<GoogleBookDTO>> withDeadline(CompletableFuture<List<GoogleBookDTO>> pipeline,
+                                                                Supplier<List<GoogleBookDTO>> fallback) {
+        return pipeline
+                .orTimeout(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    if (!(ex instanceof TimeoutException)) {
+                        throw ex instanceof CompletionException completion ? completion : new CompletionException(ex);
+                    }
+                    List<GoogleBookDTO> books = fallback.get();
+                    logger.warn("Recommendation deadline of {} reached, returning {} cached results", deadline, books.size());
+                    return books;
+                });
+    }
 
-        return recommendations.items().stream()
-                .filter(v -> !v.volumeInfo().title().equalsIgnoreCase(title))
-                .map(GoogleBooksMapper::toDto)
+    private List<GoogleBookDTO> excludeTitle(List<GoogleBookDTO> books, String title) {
+        return books.stream()
+                .filter(book -> !title.equalsIgnoreCase(book.getTitle()))
                 .collect(Collectors.toList());
     }
 }
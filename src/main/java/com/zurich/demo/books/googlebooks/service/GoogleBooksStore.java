@@ -0,0 +1,80 @@
+package com.zurich.demo.books.googlebooks.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zurich.demo.books.googlebooks.model.StoredGoogleBooksResponse;
+import com.zurich.demo.books.googlebooks.repository.StoredGoogleBooksResponseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Component
+public class GoogleBooksStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleBooksStore.class);
+
+    private final StoredGoogleBooksResponseRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration retention;
+
+    public GoogleBooksStore(StoredGoogleBooksResponseRepository repository,
+                            ObjectMapper objectMapper,
+                            @Value("${google.books.store.ttl}") Duration ttl,
+                            @Value("${google.books.store.retention}") Duration retention) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.retention = retention.compareTo(ttl) > 0 ? retention : ttl;
+    }
+
+    public <T> Optional<StoredEntry<T>> find(String cacheKey, TypeReference<T> type) {
+        try {
+            Optional<StoredGoogleBooksResponse> stored = repository.findById(cacheKey);
+            if (stored.isEmpty()) return Optional.empty();
+
+            StoredGoogleBooksResponse response = stored.get();
+            boolean fresh = response.getFetchedAt().plus(ttl).isAfter(Instant.now());
+            return Optional.of(new StoredEntry<>(objectMapper.readValue(response.getBody(), type), response.getEtag(), fresh));
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("Could not read stored Google Books response '{}': {}", cacheKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void save(String cacheKey, Object value, String etag) {
+        try {
+            repository.upsert(cacheKey, objectMapper.writeValueAsString(value), etag, Instant.now());
+        } catch (DataAccessException | JsonProcessingException e) {
+            logger.warn("Could not store Google Books response '{}': {}", cacheKey, e.getMessage());
+        }
+    }
+
+    public void touch(String cacheKey) {
+        try {
+            repository.touch(cacheKey, Instant.now());
+        } catch (DataAccessException e) {
+            logger.warn("Could not refresh stored Google Books response '{}': {}", cacheKey, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${google.books.store.purge-interval}")
+    public void purgeExpired() {
+        try {
+            int purged = repository.deleteFetchedBefore(Instant.now().minus(retention));
+            if (purged > 0) logger.info("Purged {} stored Google Books responses older than {}", purged, retention);
+        } catch (DataAccessException e) {
+            logger.warn("Could not purge stored Google Books responses: {}", e.getMessage());
+        }
+    }
+
+    public record StoredEntry<T>(T value, String etag, boolean fresh) {}
+}
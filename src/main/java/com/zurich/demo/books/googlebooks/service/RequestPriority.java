@@ -0,0 +1,26 @@
+package com.zurich.demo.books.googlebooks.service;
+
+import java.time.Duration;
+
+public enum RequestPriority {
+    INTERACTIVE_SEARCH(0.0, Duration.ofMillis(500)),
+    DETAILS(0.1, Duration.ofMillis(250)),
+    RECOMMENDATIONS(0.25, Duration.ofMillis(100)),
+    BACKGROUND(0.5, Duration.ZERO);
+
+    private final double reservedFraction;
+    private final Duration maxWait;
+
+    RequestPriority(double reservedFraction, Duration maxWait) {
+        this.reservedFraction = reservedFraction;
+        this.maxWait = maxWait;
+    }
+
+    public double reservedFraction() {
+        return reservedFraction;
+    }
+
+    public Duration maxWait() {
+        return maxWait;
+    }
+}
@@ -0,0 +1,64 @@
+package com.zurich.demo.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class LogSamplingTurboFilter extends TurboFilter {
+
+    private static final int BUCKETS = 10_000;
+
+    private final Map<String, Double> rates = new LinkedHashMap<>();
+    private final Map<String, Double> resolved = new ConcurrentHashMap<>();
+    private String configuredRates = "";
+
+    public void setRates(String rates) {
+        this.configuredRates = rates == null ? "" : rates;
+    }
+
+    @Override
+    public void start() {
+        for (String entry : configuredRates.split(",")) {
+            int separator = entry.indexOf('=');
+            if (separator <= 0) continue;
+            rates.put(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+        }
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || level == null || level.isGreaterOrEqual(Level.WARN) || rates.isEmpty()) {
+            return FilterReply.NEUTRAL;
+        }
+
+        double rate = resolved.computeIfAbsent(logger.getName(), this::rateFor);
+        if (rate >= 1.0) return FilterReply.NEUTRAL;
+        return sampled(rate) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private double rateFor(String loggerName) {
+        return rates.entrySet().stream()
+                .filter(entry -> loggerName.equals(entry.getKey()) || loggerName.startsWith(entry.getKey() + "."))
+                .max(Comparator.comparingInt(entry -> entry.getKey().length()))
+                .map(Map.Entry::getValue)
+                .orElse(1.0);
+    }
+
+    private static boolean sampled(double rate) {
+        String requestId = MDC.get(RequestCorrelationFilter.REQUEST_ID);
+        int bucket = requestId != null
+                ? Math.floorMod(requestId.hashCode(), BUCKETS)
+                : ThreadLocalRandom.current().nextInt(BUCKETS);
+        return bucket < rate * BUCKETS;
+    }
+}
@@ -0,0 +1,134 @@
+package com.zurich.demo.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = ThreadLocal.withInitial(() -> false);
+
+    private final List<String> replicaKeys;
+    private final Map<String, DataSource> replicas = new HashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final Duration healthCheckInterval;
+    private final Duration healthCheckTimeout;
+    private final ThreadPoolTaskScheduler healthScheduler = new ThreadPoolTaskScheduler();
+    private volatile List<String> healthyReplicas;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicaDataSources,
+                                    Duration healthCheckInterval, Duration healthCheckTimeout) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicaDataSources.size(); i++) {
+            String key = "replica-" + (i + 1);
+            targets.put(key, replicaDataSources.get(i));
+            replicas.put(key, replicaDataSources.get(i));
+        }
+        this.replicaKeys = List.copyOf(replicas.keySet());
+        this.healthyReplicas = replicaKeys;
+        this.healthCheckInterval = healthCheckInterval;
+        this.healthCheckTimeout = healthCheckTimeout;
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    public static void pinToPrimary(boolean pinned) {
+        if (pinned) PINNED_TO_PRIMARY.set(true);
+        else PINNED_TO_PRIMARY.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || PINNED_TO_PRIMARY.get()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        if (replicaKeys.isEmpty()) return;
+
+        healthScheduler.setPoolSize(replicaKeys.size() + 1);
+        healthScheduler.setThreadNamePrefix("replica-health-");
+        healthScheduler.setDaemon(true);
+        healthScheduler.initialize();
+        healthScheduler.scheduleWithFixedDelay(this::checkReplicas, healthCheckInterval);
+    }
+
+    @Override
+    public void destroy() {
+        healthScheduler.shutdown();
+        for (Map.Entry<String, DataSource> replica : replicas.entrySet()) {
+            if (replica.getValue() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    logger.warn("Could not close read replica {}: {}", replica.getKey(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    void checkReplicas() {
+        Map<String, Future<Boolean>> probes = new LinkedHashMap<>();
+        replicaKeys.forEach(key -> probes.put(key, healthScheduler.submit(() -> isHealthy(key))));
+
+        long deadline = System.nanoTime() + healthCheckTimeout.toNanos();
+        List<String> healthy = replicaKeys.stream()
+                .filter(key -> awaitProbe(key, probes.get(key), deadline))
+                .toList();
+        if (!healthy.equals(healthyReplicas)) {
+            logger.warn("Healthy read replicas changed from {} to {}", healthyReplicas, healthy);
+        }
+        healthyReplicas = healthy;
+    }
+
+    private boolean awaitProbe(String key, Future<Boolean> probe, long deadline) {
+        try {
+            return probe.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            probe.cancel(true);
+            logger.debug("Read replica {} did not pass its health check within {}", key, healthCheckTimeout);
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean isHealthy(String key) {
+        try (Connection connection = replicas.get(key).getConnection()) {
+            return connection.isValid((int) Math.max(1, healthCheckTimeout.toSeconds()));
+        } catch (SQLException e) {
+            logger.debug("Read replica {} failed its health check: {}", key, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.zurich.demo.exception;
+
+public class ExternalApiUnavailableException extends ExternalApiException {
+    public ExternalApiUnavailableException(String message) {
+        super(message);
+    }
+
+    public ExternalApiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,62 @@
+package com.zurich.demo.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "A page of results with an opaque cursor for the next page")
+public record CursorPage<T>(
+        @Schema(description = "Items in this page") List<T> items,
+        @Schema(description = "Cursor for the next page, absent on the last page", example = "aWQ6NDI") String nextCursor) {
+
+    private static final String PREFIX = "id:";
+    private static final String OFFSET_PREFIX = "offset:";
+
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> idOf) {
+        if (rows.size() <= size) return new CursorPage<>(rows, null);
+        List<T> items = rows.subList(0, size);
+        return new CursorPage<>(List.copyOf(items), encode(idOf.apply(items.get(size - 1))));
+    }
+
+    public static <T> CursorPage<T> ofOffset(List<T> rows, int size, long offset) {
+        if (rows.size() <= size) return new CursorPage<>(rows, null);
+        return new CursorPage<>(List.copyOf(rows.subList(0, size)), token(OFFSET_PREFIX, offset + size));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public static String encode(long lastId) {
+        return token(PREFIX, lastId);
+    }
+
+    public static long decode(String cursor) {
+        return parse(PREFIX, cursor);
+    }
+
+    public static long decodeOffset(String cursor) {
+        return parse(OFFSET_PREFIX, cursor);
+    }
+
+    private static String token(String prefix, long value) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefix + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static long parse(String prefix, String cursor) {
+        if (cursor == null || cursor.isBlank()) return 0L;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(prefix)) throw new IllegalArgumentException("Invalid cursor.");
+            long value = Long.parseLong(decoded.substring(prefix.length()));
+            if (value < 0) throw new IllegalArgumentException("Invalid cursor.");
+            return value;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor.", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.zurich.demo.pagination;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PageSizes {
+
+    private final int defaultSize;
+    private final int maxSize;
+
+    public PageSizes(@Value("${api.pagination.default-size}") int defaultSize,
+                     @Value("${api.pagination.max-size}") int maxSize) {
+        this.defaultSize = defaultSize;
+        this.maxSize = maxSize;
+    }
+
+    public int resolve(Integer requested) {
+        if (requested == null) return defaultSize;
+        if (requested <= 0) throw new IllegalArgumentException("Page size must be positive.");
+        return Math.min(requested, maxSize);
+    }
+}
@@ -0,0 +1,46 @@
+package com.zurich.demo.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zurich.demo.user.model.User;
+import com.zurich.demo.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, User> principals;
+    private final Timer lookupTimer;
+
+    public PrincipalCache(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${api.security.principal-cache.max-size}") long maxSize,
+                          @Value("${api.security.principal-cache.ttl}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.lookupTimer = Timer.builder("security.principal.lookup")
+                .register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "securityPrincipals");
+    }
+
+    public Optional<User> findByUsername(String username) {
+        return lookupTimer.record(() -> Optional.ofNullable(principals.get(username,
+                key -> userRepository.findByUsername(key).orElse(null))));
+    }
+
+    public void invalidate(String username) {
+        principals.invalidate(username);
+    }
+}
@@ -0,0 +1,21 @@
+package com.zurich.demo.security;
+
+import com.zurich.demo.user.model.User;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PrincipalCacheInvalidator {
+
+    private final ObjectProvider<PrincipalCache> principalCache;
+
+    public PrincipalCacheInvalidator(ObjectProvider<PrincipalCache> principalCache) {
+        this.principalCache = principalCache;
+    }
+
+    @PostUpdate
+    public void onUpdate(User user) {
+        principalCache.getObject().invalidate(user.getUsername());
+    }
+}
@@ -1,7 +1,9 @@
 package com.zurich.demo.security;
 
-import com.zurich.demo.user.repository.UserRepository;
+import com.zurich.demo.auth.service.TokenRevocationService;
 import com.zurich.demo.auth.service.TokenService;
+import com.zurich.demo.auth.service.TokenService.VerifiedToken;
+import com.zurich.demo.user.model.User;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,13 +11,19 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Component
 public class SecurityFilter extends OncePerRequestFilter {
@@ -26,7 +34,13 @@ public class SecurityFilter extends OncePerRequestFilter {
     private TokenService tokenService;
 
     @Autowired
-    private UserRepository userRepository;
+    private PrincipalCache principalCache;
+
+    @Autowired
+    private TokenRevocationService revocationService;
+
+    @Value("${api.security.stateless}")
+    private boolean stateless;
 
     @Override
     protected void doFilterInternal(
@@ -41,7 +55,7 @@ public class SecurityFilter extends OncePerRequestFilter {
 
         if ("OPTIONS".equalsIgnoreCase(method)
                 || "/api/auth/login".equals(path)
-                || "/api/users".equals(path)
+                || ("POST".equalsIgnoreCase(method) && "/api/users".equals(path))
                 || path.startsWith("/v3/api-docs")
                 || path.startsWith("/swagger-ui")) {
             logger.debug("Skipping filter for public or preflight request: {} {}", method, path);
@@ -52,16 +66,14 @@ public class SecurityFilter extends OncePerRequestFilter {
         String token = this.recoverToken(request);
 
         if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            String username = tokenService.validateToken(token);
-
-            if (username != null && !username.isEmpty()) {
-                userRepository.findByUsername(username).ifPresent(user -> {
-                    var authentication = new UsernamePasswordAuthenticationToken(
-                            user, null, user.getAuthorities()
-                    );
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    logger.info("User '{}' authenticated successfully.", user.getUsername());
-                });
+            Optional<VerifiedToken> verified = tokenService.verify(token);
+
+            if (verified.isPresent() && verified.get().subject() != null && !verified.get().subject().isEmpty()) {
+                if (revocationService.isRevoked(verified.get())) {
+                    logger.warn("Rejected revoked token for user '{}'.", verified.get().subject());
+                } else {
+                    authenticate(verified.get());
+                }
             } else {
                 logger.warn("Invalid or expired token.");
             }
@@ -70,6 +82,28 @@ public class SecurityFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(VerifiedToken verified) {
+        if (stateless && verified.hasClaims()) {
+            User principal = new User();
+            principal.setId(verified.userId());
+            principal.setUsername(verified.subject());
+            List<SimpleGrantedAuthority> authorities = verified.roles().stream()
+                    .map(SimpleGrantedAuthority::new)
+                    .toList();
+            setAuthentication(principal, authorities);
+            return;
+        }
+
+        principalCache.findByUsername(verified.subject())
+                .ifPresent(user -> setAuthentication(user, user.getAuthorities()));
+    }
+
+    private void setAuthentication(User user, Collection<? extends GrantedAuthority> authorities) {
+        var authentication = new UsernamePasswordAuthenticationToken(user, null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        logger.debug("User '{}' authenticated successfully.", user.getUsername());
+    }
+
     private String recoverToken(HttpServletRequest request) {
         String authHeader = request.getHeader("Authorization");
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -1,5 +1,6 @@
 package com.zurich.demo.user.controller;
 
+import com.zurich.demo.pagination.CursorPage;
 import com.zurich.demo.user.dto.UserProfileResponse;
 import com.zurich.demo.user.dto.UserRegistrationRequest;
 import com.zurich.demo.user.dto.UserResponseDTO;
@@ -20,9 +21,6 @@ import org.springframework.http.*;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 @Tag(name = "User Management", description = "Endpoints for managing user accounts")
 @SecurityRequirement(name = "bearerAuth")
 @RestController
@@ -70,21 +68,23 @@ public class UserController {
     }
 
     @Operation(
-            summary = "Get all users",
-            description = "Returns a list of all registered users"
+            summary = "Get users",
+            description = "Returns one page of registered users. Pass the returned nextCursor to fetch the following page."
     )
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "User list retrieved",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserResponseDTO.class))),
+            @ApiResponse(responseCode = "200", description = "User page retrieved",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size", content = @Content),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content),
             @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
     })
     @GetMapping
-    public List<UserResponseDTO> findAll() {
-        logger.info("Fetching all users");
-        return userService.getAllUsers().stream()
-                .map(user -> new UserResponseDTO(user.getId(), user.getUsername(), user.getEmail()))
-                .collect(Collectors.toList());
+    public CursorPage<UserResponseDTO> findAll(
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size", example = "50") @RequestParam(required = false) Integer size) {
+        logger.info("Fetching users");
+        return userService.getUsers(cursor, size)
+                .map(user -> new UserResponseDTO(user.getId(), user.getUsername(), user.getEmail()));
     }
 
     @GetMapping("/me")
@@ -1,11 +1,15 @@
 package com.zurich.demo.user.service;
 
 import com.zurich.demo.books.bookentry.repository.BookEntryRepository;
+import com.zurich.demo.pagination.CursorPage;
+import com.zurich.demo.pagination.PageSizes;
+import com.zurich.demo.security.PrincipalCache;
 import com.zurich.demo.user.model.User;
 import com.zurich.demo.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,13 +24,19 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final BookEntryRepository bookEntryRepository;
+    private final PrincipalCache principalCache;
+    private final PageSizes pageSizes;
 
     public UserService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       BookEntryRepository bookEntryRepository) {
+                       BookEntryRepository bookEntryRepository,
+                       PrincipalCache principalCache,
+                       PageSizes pageSizes) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.bookEntryRepository = bookEntryRepository;
+        this.principalCache = principalCache;
+        this.pageSizes = pageSizes;
     }
 
     public User createUser(User user) {
@@ -48,9 +58,12 @@ public class UserService {
         return savedUser;
     }
 
-    public List<User> getAllUsers() {
-        logger.info("Fetching all users.");
-        return userRepository.findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<User> getUsers(String cursor, Integer size) {
+        int pageSize = pageSizes.resolve(size);
+        logger.info("Fetching users (page size: {}).", pageSize);
+        List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(CursorPage.decode(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(users, pageSize, User::getId);
     }
 
     @Transactional
@@ -67,6 +80,7 @@ public class UserService {
         bookEntryRepository.deleteByUserId(id);
 
         userRepository.delete(user);
+        principalCache.invalidate(user.getUsername());
         logger.info("User with ID: {} deleted successfully.", id);
     }
 }
@@ -0,0 +1,17 @@
+-- Tables added after the baseline. Databases that ran those versions under hibernate.ddl-auto=update
+-- already have them, so they are only created when missing.
+
+CREATE TABLE IF NOT EXISTS google_books_responses (
+    cache_key  VARCHAR(1024) PRIMARY KEY,
+    body       JSONB NOT NULL,
+    etag       VARCHAR(255),
+    fetched_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+-- Scheduled purge of responses past their retention window
+CREATE INDEX IF NOT EXISTS idx_google_books_responses_fetched_at ON google_books_responses (fetched_at);
+
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti        VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,31 @@
+-- Schema as previously generated by hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version and skip this script.
+
+CREATE TABLE users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE book_entries (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    google_book_id VARCHAR(255),
+    title          VARCHAR(255),
+    authors        VARCHAR(255),
+    thumbnail_url  VARCHAR(255),
+    average_rating DOUBLE PRECISION,
+    status         VARCHAR(255),
+    user_id        BIGINT,
+    CONSTRAINT fk_book_entries_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT book_entries_status_check CHECK (status IN
+        ('WISHLIST', 'PLAN_TO_READ', 'READING', 'PAUSED', 'DROPPED', 'READ', 'RECOMMENDED'))
+);
+
+CREATE TABLE book_subjects (
+    book_entry_id BIGINT NOT NULL,
+    subject       VARCHAR(255),
+    CONSTRAINT fk_book_subjects_book_entry FOREIGN KEY (book_entry_id) REFERENCES book_entries (id)
+);
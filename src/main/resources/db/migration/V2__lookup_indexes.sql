@@ -0,0 +1,24 @@
+-- Racing check-then-insert saves may have left duplicate entries behind; keep the oldest one.
+DELETE FROM book_subjects s
+USING book_entries b
+WHERE s.book_entry_id = b.id
+  AND EXISTS (SELECT 1 FROM book_entries o
+              WHERE o.user_id = b.user_id AND o.google_book_id = b.google_book_id AND o.id < b.id);
+
+DELETE FROM book_entries b
+WHERE EXISTS (SELECT 1 FROM book_entries o
+              WHERE o.user_id = b.user_id AND o.google_book_id = b.google_book_id AND o.id < b.id);
+
+ALTER TABLE book_entries
+    ADD CONSTRAINT uk_book_entries_user_book UNIQUE (user_id, google_book_id);
+
+-- Keyset pagination over a user's library
+CREATE INDEX idx_book_entries_user_id_id ON book_entries (user_id, id);
+
+-- Element-collection loads and cascading deletes of subjects
+CREATE INDEX idx_book_subjects_book_entry_id ON book_subjects (book_entry_id);
+
+-- Scheduled purge of expired revocations
+CREATE INDEX idx_revoked_tokens_expires_at ON revoked_tokens (expires_at);
+
+-- users(username) and users(email) are already covered by their unique constraints
@@ -0,0 +1,10 @@
+-- Move ID generation from identity columns to pooled sequences (allocationSize = 50) so
+-- Hibernate can batch inserts. Each sequence restarts past the current maximum ID.
+
+CREATE SEQUENCE users_seq INCREMENT BY 50;
+SELECT setval('users_seq', (SELECT COALESCE(MAX(id), 0) FROM users) + 50, false);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE book_entries_seq INCREMENT BY 50;
+SELECT setval('book_entries_seq', (SELECT COALESCE(MAX(id), 0) FROM book_entries) + 50, false);
+ALTER TABLE book_entries ALTER COLUMN id DROP IDENTITY IF EXISTS;
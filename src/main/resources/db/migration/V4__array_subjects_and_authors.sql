@@ -0,0 +1,24 @@
+-- Subjects move from the book_subjects element-collection table into a varchar[] column.
+ALTER TABLE book_entries ADD COLUMN subjects VARCHAR[] NOT NULL DEFAULT '{}';
+
+UPDATE book_entries b
+SET subjects = s.subjects
+FROM (SELECT book_entry_id, array_agg(subject) FILTER (WHERE subject IS NOT NULL) AS subjects
+      FROM book_subjects
+      GROUP BY book_entry_id) s
+WHERE s.book_entry_id = b.id
+  AND s.subjects IS NOT NULL;
+
+DROP TABLE book_subjects;
+
+-- Authors were stored joined with ", "; split them back into a varchar[] column.
+ALTER TABLE book_entries
+    ALTER COLUMN authors TYPE VARCHAR[] USING
+        CASE WHEN authors IS NULL OR btrim(authors) = '' THEN '{}'::VARCHAR[]
+             ELSE regexp_split_to_array(btrim(authors), '\s*,\s*') END,
+    ALTER COLUMN authors SET DEFAULT '{}',
+    ALTER COLUMN authors SET NOT NULL;
+
+-- Containment (@>) lookups by subject or author
+CREATE INDEX idx_book_entries_subjects ON book_entries USING gin (subjects);
+CREATE INDEX idx_book_entries_authors ON book_entries USING gin (authors);
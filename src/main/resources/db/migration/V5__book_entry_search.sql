@@ -0,0 +1,18 @@
+-- array_to_string is only STABLE, so generated columns need an IMMUTABLE wrapper.
+CREATE FUNCTION book_entry_search_vector(title VARCHAR, authors VARCHAR[], subjects VARCHAR[])
+    RETURNS TSVECTOR
+    LANGUAGE sql IMMUTABLE PARALLEL SAFE AS
+$$
+SELECT setweight(to_tsvector('english', coalesce(title, '')), 'A')
+           || setweight(to_tsvector('english', array_to_string(authors, ' ')), 'B')
+           || setweight(to_tsvector('english', array_to_string(subjects, ' ')), 'C')
+$$;
+
+ALTER TABLE book_entries
+    ADD COLUMN search_vector TSVECTOR
+        GENERATED ALWAYS AS (book_entry_search_vector(title, authors, subjects)) STORED;
+
+-- btree_gin lets one GIN index serve both the owner filter and the text match.
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX idx_book_entries_user_search ON book_entries USING gin (user_id, search_vector);
@@ -0,0 +1,161 @@
+-- Per-user library aggregates, kept current by statement-level triggers on book_entries so that
+-- single saves, batched inserts and bulk JPQL updates/deletes are all counted the same way.
+
+CREATE TABLE book_entry_status_stats (
+    user_id       BIGINT           NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    status        VARCHAR(255)     NOT NULL,
+    entries       BIGINT           NOT NULL,
+    rated_entries BIGINT           NOT NULL,
+    rating_sum    DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (user_id, status)
+);
+
+CREATE TABLE book_entry_subject_stats (
+    user_id BIGINT       NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    subject TEXT         NOT NULL,
+    entries BIGINT       NOT NULL,
+    PRIMARY KEY (user_id, subject)
+);
+
+-- Top subjects per user
+CREATE INDEX idx_book_entry_subject_stats_top ON book_entry_subject_stats (user_id, entries DESC, subject);
+
+CREATE TYPE book_entry_stats_delta AS (
+    user_id  BIGINT,
+    status   VARCHAR,
+    entries  INTEGER,
+    rating   DOUBLE PRECISION,
+    subjects VARCHAR[]
+);
+
+-- Serialises counter maintenance and rebuilds per user, keyed on a 64-bit hash of the user id.
+CREATE FUNCTION lock_book_entry_stats(p_user_id BIGINT) RETURNS VOID
+    LANGUAGE sql AS
+$$
+SELECT pg_advisory_xact_lock(hashtextextended('book_entry_stats', p_user_id))
+$$;
+
+CREATE FUNCTION apply_book_entry_stats(deltas book_entry_stats_delta[]) RETURNS VOID
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM lock_book_entry_stats(u.user_id)
+    FROM (SELECT DISTINCT user_id FROM unnest(deltas) WHERE user_id IS NOT NULL ORDER BY user_id) u;
+
+    INSERT INTO book_entry_status_stats AS s (user_id, status, entries, rated_entries, rating_sum)
+    SELECT user_id, status, sum(entries),
+           coalesce(sum(entries) FILTER (WHERE rating IS NOT NULL), 0),
+           coalesce(sum(entries * rating), 0)
+    FROM unnest(deltas)
+    WHERE user_id IS NOT NULL AND status IS NOT NULL
+    GROUP BY user_id, status
+    ORDER BY user_id, status
+    ON CONFLICT (user_id, status) DO UPDATE
+        SET entries       = s.entries + EXCLUDED.entries,
+            rated_entries = s.rated_entries + EXCLUDED.rated_entries,
+            rating_sum    = s.rating_sum + EXCLUDED.rating_sum;
+
+    INSERT INTO book_entry_subject_stats AS s (user_id, subject, entries)
+    SELECT d.user_id, subject, sum(d.entries)
+    FROM unnest(deltas) d,
+         LATERAL (SELECT DISTINCT subject FROM unnest(d.subjects) subject WHERE subject IS NOT NULL) subjects
+    WHERE d.user_id IS NOT NULL
+    GROUP BY d.user_id, subject
+    ORDER BY d.user_id, subject
+    ON CONFLICT (user_id, subject) DO UPDATE
+        SET entries = s.entries + EXCLUDED.entries;
+
+    DELETE FROM book_entry_subject_stats
+    WHERE entries <= 0
+      AND user_id IN (SELECT user_id FROM unnest(deltas));
+END
+$$;
+
+CREATE FUNCTION book_entry_stats_on_insert() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM apply_book_entry_stats(ARRAY(
+            SELECT ROW (user_id, status, 1, average_rating, subjects)::book_entry_stats_delta FROM new_rows));
+    RETURN NULL;
+END
+$$;
+
+CREATE FUNCTION book_entry_stats_on_update() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM apply_book_entry_stats(ARRAY(
+            SELECT ROW (d.user_id, d.status, d.entries, d.average_rating, d.subjects)::book_entry_stats_delta
+            FROM old_rows o
+                     JOIN new_rows n USING (id)
+                     CROSS JOIN LATERAL (VALUES (o.user_id, o.status, -1, o.average_rating, o.subjects),
+                                                (n.user_id, n.status, 1, n.average_rating, n.subjects))
+                AS d(user_id, status, entries, average_rating, subjects)
+            WHERE (o.user_id, o.status, o.average_rating, o.subjects)
+                      IS DISTINCT FROM (n.user_id, n.status, n.average_rating, n.subjects)));
+    RETURN NULL;
+END
+$$;
+
+CREATE FUNCTION book_entry_stats_on_delete() RETURNS TRIGGER
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM apply_book_entry_stats(ARRAY(
+            SELECT ROW (user_id, status, -1, average_rating, subjects)::book_entry_stats_delta FROM old_rows));
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER book_entry_stats_insert
+    AFTER INSERT ON book_entries
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION book_entry_stats_on_insert();
+
+CREATE TRIGGER book_entry_stats_update
+    AFTER UPDATE ON book_entries
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION book_entry_stats_on_update();
+
+CREATE TRIGGER book_entry_stats_delete
+    AFTER DELETE ON book_entries
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION book_entry_stats_on_delete();
+
+-- GROUP BY recomputation of one user's aggregates, run by the application inside its own transaction.
+CREATE PROCEDURE rebuild_book_entry_stats(p_user_id BIGINT)
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM lock_book_entry_stats(p_user_id);
+
+    DELETE FROM book_entry_status_stats WHERE user_id = p_user_id;
+    DELETE FROM book_entry_subject_stats WHERE user_id = p_user_id;
+
+    INSERT INTO book_entry_status_stats (user_id, status, entries, rated_entries, rating_sum)
+    SELECT user_id, status, count(*), count(average_rating), coalesce(sum(average_rating), 0)
+    FROM book_entries
+    WHERE user_id = p_user_id AND status IS NOT NULL
+    GROUP BY user_id, status;
+
+    INSERT INTO book_entry_subject_stats (user_id, subject, entries)
+    SELECT b.user_id, subject, count(*)
+    FROM book_entries b,
+         LATERAL (SELECT DISTINCT subject FROM unnest(b.subjects) subject WHERE subject IS NOT NULL) subjects
+    WHERE b.user_id = p_user_id
+    GROUP BY b.user_id, subject;
+END
+$$;
+
+DO
+$$
+DECLARE
+    u BIGINT;
+BEGIN
+    FOR u IN SELECT id FROM users ORDER BY id
+        LOOP
+            CALL rebuild_book_entry_stats(u);
+        END LOOP;
+END
+$$;
@@ -0,0 +1,5 @@
+-- Lets every instance pick up revocations made elsewhere without reloading the whole list.
+ALTER TABLE revoked_tokens
+    ADD COLUMN revoked_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now();
+
+CREATE INDEX idx_revoked_tokens_revoked_at ON revoked_tokens (revoked_at);
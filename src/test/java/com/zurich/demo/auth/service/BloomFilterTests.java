@@ -0,0 +1,46 @@
+package com.zurich.demo.auth.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTests {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void rebuiltFilterContainsEveryInsertedValue() {
+        List<String> revoked = randomJtis(5_000);
+        BloomFilter filter = new BloomFilter(revoked.size() * 2L, FALSE_POSITIVE_RATE);
+        revoked.forEach(filter::put);
+
+        assertThat(revoked).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void overfilledFilterStillHasNoFalseNegatives() {
+        List<String> revoked = randomJtis(5_000);
+        BloomFilter filter = new BloomFilter(100, FALSE_POSITIVE_RATE);
+        revoked.forEach(filter::put);
+
+        assertThat(revoked).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheConfiguredTarget() {
+        BloomFilter filter = new BloomFilter(5_000, FALSE_POSITIVE_RATE);
+        randomJtis(5_000).forEach(filter::put);
+
+        long falsePositives = randomJtis(20_000).stream().filter(filter::mightContain).count();
+
+        assertThat(falsePositives / 20_000.0).isLessThan(FALSE_POSITIVE_RATE * 3);
+    }
+
+    private static List<String> randomJtis(int count) {
+        return IntStream.range(0, count).mapToObj(i -> UUID.randomUUID().toString()).toList();
+    }
+}
@@ -0,0 +1,136 @@
+package com.zurich.demo.books.bookentry.repository;
+
+import com.zurich.demo.books.bookentry.model.BookEntry;
+import com.zurich.demo.books.bookentry.model.BookStatus;
+import com.zurich.demo.user.model.User;
+import com.zurich.demo.user.repository.UserRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class BookEntryRepositoryTests {
+
+    private static final int LIBRARY_SIZE = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BookEntryRepository bookEntryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setUsername("reader");
+        user.setEmail("reader@example.com");
+        user.setPassword("password123");
+        userId = entityManager.persist(user).getId();
+
+        for (int i = 0; i < LIBRARY_SIZE; i++) {
+            BookEntry entry = new BookEntry();
+            entry.setGoogleBookId("book-" + i);
+            entry.setTitle("Title " + i);
+            entry.setSubject(List.of("Fiction", "Subject " + i));
+            entry.setStatus(BookStatus.READING);
+            entry.setUser(user);
+            entityManager.persist(entry);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void loadsLibraryPageWithSubjectsInConstantQueriesWithoutUser() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Long> ids = bookEntryRepository.findPageIds(userId, 0L, null, Limit.of(LIBRARY_SIZE));
+        List<BookEntry> entries = bookEntryRepository.findByIdInOrderByIdAsc(ids);
+        entries.forEach(entry -> assertThat(entry.getSubject()).hasSize(2));
+
+        assertThat(entries).hasSize(LIBRARY_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(entries).noneMatch(entry -> Hibernate.isInitialized(entry.getUser()));
+    }
+
+    @Test
+    void filtersLibraryBySubject() {
+        assertThat(bookEntryRepository.findPageIdsBySubject(userId, "Fiction", 0L, BookStatus.READING, Limit.of(LIBRARY_SIZE)))
+                .hasSize(LIBRARY_SIZE);
+        assertThat(bookEntryRepository.findPageIdsBySubject(userId, "Subject 7", 0L, null, Limit.of(LIBRARY_SIZE)))
+                .hasSize(1);
+        assertThat(bookEntryRepository.findPageIdsBySubject(userId, "Fiction", 0L, BookStatus.READ, Limit.of(LIBRARY_SIZE)))
+                .isEmpty();
+    }
+
+    @Test
+    void bulkDeleteByUserEvictsCachedEntriesAndPages() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            List<Long> ids = bookEntryRepository.findPageIds(userId, 0L, null, Limit.of(LIBRARY_SIZE));
+            bookEntryRepository.findByIdInOrderByIdAsc(ids);
+            Cache cache = entityManagerFactory.getCache();
+            assertThat(cache.contains(BookEntry.class, ids.get(0))).isTrue();
+
+            bookEntryRepository.deleteByUserId(userId);
+
+            assertThat(ids).noneMatch(id -> cache.contains(BookEntry.class, id));
+            assertThat(bookEntryRepository.findPageIds(userId, 0L, null, Limit.of(LIBRARY_SIZE))).isEmpty();
+        } finally {
+            bookEntryRepository.deleteByUserId(userId);
+            userRepository.deleteById(userId);
+        }
+    }
+
+    @Test
+    void ownerScopedStatusUpdateCountsOnlyOwnEntriesAndEvictsStaleCopies() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            List<Long> ids = bookEntryRepository.findPageIds(userId, 0L, null, Limit.of(LIBRARY_SIZE));
+            bookEntryRepository.findByIdInOrderByIdAsc(ids);
+            Cache cache = entityManagerFactory.getCache();
+            assertThat(cache.contains(BookEntry.class, ids.get(0))).isTrue();
+
+            assertThat(bookEntryRepository.updateStatus(ids.subList(0, 3), userId + 1, BookStatus.READ)).isZero();
+            assertThat(bookEntryRepository.updateStatus(ids.subList(0, 3), userId, BookStatus.READ)).isEqualTo(3);
+
+            assertThat(cache.contains(BookEntry.class, ids.get(0))).isFalse();
+            assertThat(bookEntryRepository.findByIdInOrderByIdAsc(ids.subList(0, 3)))
+                    .allMatch(entry -> entry.getStatus() == BookStatus.READ);
+            assertThat(bookEntryRepository.deleteOwned(ids.subList(0, 3), userId)).isEqualTo(3);
+            assertThat(bookEntryRepository.findByIdInOrderByIdAsc(ids.subList(0, 3))).isEmpty();
+        } finally {
+            bookEntryRepository.deleteByUserId(userId);
+            userRepository.deleteById(userId);
+        }
+    }
+}
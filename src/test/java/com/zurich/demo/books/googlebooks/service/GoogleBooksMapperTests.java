@@ -0,0 +1,90 @@
+package com.zurich.demo.books.googlebooks.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.zurich.demo.books.googlebooks.bookDTOs.GoogleBookDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GoogleBooksMapperTests {
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    void mapsEveryFieldOfACompleteVolume() throws IOException {
+        GoogleBookDTO book = readFixture().get(0);
+
+        GoogleBookDTO expected = new GoogleBookDTO();
+        expected.setId("zyTCAlADqUcC");
+        expected.setTitle("The Hitchhiker's Guide to the Galaxy");
+        expected.setAuthors(List.of("Douglas Adams"));
+        expected.setPublisher("Pan Macmillan");
+        expected.setPublishedDate("2009-09-04");
+        expected.setDescription("Seconds before the Earth is demolished...");
+        expected.setPageCount(216);
+        expected.setPrintType("BOOK");
+        expected.setCategories(List.of("Fiction"));
+        expected.setAverageRating(4.5);
+        expected.setRatingsCount(112);
+        expected.setLanguage("en");
+        expected.setPreviewLink("http://books.google.com/books?id=zyTCAlADqUcC&printsec=frontcover");
+        expected.setInfoLink("http://books.google.com/books?id=zyTCAlADqUcC");
+        expected.setCanonicalVolumeLink("https://books.google.com/books/about/The_Hitchhiker_s_Guide.html?id=zyTCAlADqUcC");
+        expected.setThumbnailUrl("http://books.google.com/books/content?id=zyTCAlADqUcC&zoom=1");
+        expected.setIsbn13("9780330508537");
+
+        assertThat(book).isEqualTo(expected);
+    }
+
+    @Test
+    void missingFieldsMapToNullAndListsToEmpty() throws IOException {
+        GoogleBookDTO book = readFixture().get(1);
+
+        GoogleBookDTO expected = new GoogleBookDTO();
+        expected.setId("sparse01");
+        expected.setTitle("Untitled Draft");
+        expected.setAuthors(List.of());
+        expected.setCategories(List.of());
+
+        assertThat(book).isEqualTo(expected);
+    }
+
+    @Test
+    void nullFieldsMapToNullAndListsToEmpty() throws IOException {
+        GoogleBookDTO book = readFixture().get(2);
+
+        GoogleBookDTO expected = new GoogleBookDTO();
+        expected.setId("nulls001");
+        expected.setAuthors(List.of());
+        expected.setCategories(List.of());
+        expected.setLanguage("de");
+
+        assertThat(book).isEqualTo(expected);
+    }
+
+    @Test
+    void readsSingleVolumeAndEmptySearch() throws IOException {
+        try (JsonParser parser = jsonFactory.createParser("{\"id\":\"v1\",\"volumeInfo\":{\"title\":\"T\"},\"saleInfo\":{}}")) {
+            GoogleBookDTO book = GoogleBooksMapper.readVolume(parser);
+            assertThat(book.getId()).isEqualTo("v1");
+            assertThat(book.getTitle()).isEqualTo("T");
+        }
+        try (JsonParser parser = jsonFactory.createParser("{\"kind\":\"books#volumes\",\"totalItems\":0}")) {
+            assertThat(GoogleBooksMapper.readSearchResponse(parser)).isEmpty();
+        }
+    }
+
+    private List<GoogleBookDTO> readFixture() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/googlebooks/volumes.json");
+             JsonParser parser = jsonFactory.createParser(in)) {
+            List<GoogleBookDTO> books = GoogleBooksMapper.readSearchResponse(parser);
+            assertThat(books).hasSize(3);
+            return books;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.zurich.demo.books.googlebooks.service;
+
+import com.zurich.demo.exception.ExternalApiUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GoogleBooksQuotaGovernorTests {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void dailyQuotaKeepsEachPrioritysReservedShareForHigherPriorities() {
+        GoogleBooksQuotaGovernor governor = new GoogleBooksQuotaGovernor(meterRegistry, 1000, 20);
+
+        assertThat(acquireUntilRejected(governor, RequestPriority.BACKGROUND)).isEqualTo(10);
+        assertThat(acquireUntilRejected(governor, RequestPriority.RECOMMENDATIONS)).isEqualTo(5);
+        assertThat(acquireUntilRejected(governor, RequestPriority.DETAILS)).isEqualTo(3);
+        assertThat(acquireUntilRejected(governor, RequestPriority.INTERACTIVE_SEARCH)).isEqualTo(2);
+    }
+
+    @Test
+    void burstHeadroomIsLeftForInteractiveSearch() {
+        GoogleBooksQuotaGovernor governor = new GoogleBooksQuotaGovernor(meterRegistry, 4, 1000);
+
+        assertThat(acquireUntilRejected(governor, RequestPriority.RECOMMENDATIONS)).isEqualTo(3);
+        assertThatCode(() -> governor.acquire(RequestPriority.INTERACTIVE_SEARCH)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void backgroundCallsAreDroppedInsteadOfWaitingForTokens() {
+        GoogleBooksQuotaGovernor governor = new GoogleBooksQuotaGovernor(meterRegistry, 4, 1000);
+
+        long start = System.nanoTime();
+        assertThat(acquireUntilRejected(governor, RequestPriority.BACKGROUND)).isEqualTo(2);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(100));
+        assertThatCode(() -> governor.acquire(RequestPriority.DETAILS)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void exhaustionIsReportedAsUnavailableAndCounted() {
+        GoogleBooksQuotaGovernor governor = new GoogleBooksQuotaGovernor(meterRegistry, 1000, 1);
+        governor.acquire(RequestPriority.INTERACTIVE_SEARCH);
+
+        assertThatThrownBy(() -> governor.acquire(RequestPriority.INTERACTIVE_SEARCH))
+                .isInstanceOf(ExternalApiUnavailableException.class);
+        assertThat(meterRegistry.get("google.books.quota.rejected")
+                .tag("priority", "interactive_search").counter().count()).isEqualTo(1);
+    }
+
+    private static int acquireUntilRejected(GoogleBooksQuotaGovernor governor, RequestPriority priority) {
+        int granted = 0;
+        while (true) {
+            try {
+                governor.acquire(priority);
+                granted++;
+            } catch (ExternalApiUnavailableException e) {
+                return granted;
+            }
+        }
+    }
+}
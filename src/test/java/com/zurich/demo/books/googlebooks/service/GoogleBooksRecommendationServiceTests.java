@@ -0,0 +1,68 @@
+package com.zurich.demo.books.googlebooks.service;
+
+import com.zurich.demo.books.googlebooks.bookDTOs.GoogleBookDTO;
+import com.zurich.demo.books.googlebooks.service.GoogleBooksCache.QueryKey;
+import com.zurich.demo.exception.ExternalApiUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class GoogleBooksRecommendationServiceTests {
+
+    private static final Executor SATURATED = task -> {
+        throw new RejectedExecutionException("queue full");
+    };
+
+    private final GoogleBooksClient client = mock(GoogleBooksClient.class);
+    private final GoogleBooksCache cache = new GoogleBooksCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+    private final GoogleBooksRecommendationService service =
+            new GoogleBooksRecommendationService(client, cache, SATURATED, Duration.ofSeconds(1));
+
+    @Test
+    void saturatedExecutorServesCachedSubjectResults() {
+        cache.putQuery(QueryKey.of("subject:Fantasy", 10, "US"), List.of(book("The Hobbit", "Fantasy")));
+
+        List<GoogleBookDTO> books = service.findRecommendations(null, "Fantasy").join();
+
+        assertThat(books).extracting(GoogleBookDTO::getTitle).containsExactly("The Hobbit");
+        verifyNoInteractions(client);
+    }
+
+    @Test
+    void saturatedExecutorWithoutCachedResultsIsUnavailable() {
+        assertThatThrownBy(() -> service.findRecommendations(null, "Fantasy"))
+                .isInstanceOf(ExternalApiUnavailableException.class);
+    }
+
+    @Test
+    void saturatedExecutorServesCachedCategoryResultsForKnownTitles() {
+        cache.putQuery(QueryKey.of("subject:Fantasy", 10, "US"),
+                List.of(book("The Hobbit", "Fantasy"), book("Earthsea", "Fantasy")));
+
+        List<GoogleBookDTO> books = service.findRecommendations("The Hobbit", null).join();
+
+        assertThat(books).extracting(GoogleBookDTO::getTitle).containsExactly("Earthsea");
+    }
+
+    @Test
+    void saturatedExecutorWithUnknownTitleIsUnavailable() {
+        assertThatThrownBy(() -> service.findRecommendations("Unknown", null))
+                .isInstanceOf(ExternalApiUnavailableException.class);
+    }
+
+    private static GoogleBookDTO book(String title, String category) {
+        GoogleBookDTO book = new GoogleBookDTO();
+        book.setTitle(title);
+        book.setCategories(List.of(category));
+        return book;
+    }
+}